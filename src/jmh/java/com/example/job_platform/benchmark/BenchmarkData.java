@@ -0,0 +1,105 @@
+// src/jmh/java/com/example/job_platform/benchmark/BenchmarkData.java
+package com.example.job_platform.benchmark;
+
+import com.example.job_platform.model.JobPosting;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic synthetic data for the benchmarks. Every generator takes an explicit seed, so
+ * each fork and each run benchmarks exactly the same postings and skills.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42L;
+
+    // Size of the skill vocabulary; skill popularity is skewed (see #skill) like real postings
+    static final int SKILL_VOCABULARY = 2000;
+
+    private static final String[] LOCATIONS = {"Remote", "Berlin", "London", "New York", "Bangalore", "Toronto"};
+    private static final String[] EXPERIENCE = {"Entry", "Mid", "Senior", "Lead"};
+    private static final String[] FILLER = {"we", "are", "looking", "for", "an", "experienced", "engineer",
+            "to", "build", "and", "operate", "scalable", "services", "with", "our", "team", "of", "developers"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @return A skill name; low indexes are drawn far more often than high ones.
+     */
+    static String skill(Random random) {
+        double skew = random.nextDouble();
+        return "skill-" + (int) (skew * skew * skew * SKILL_VOCABULARY);
+    }
+
+    /**
+     * @return Between min and max distinct skills, in canonical (lowercase) form.
+     */
+    static List<String> skills(Random random, int min, int max) {
+        int count = min + random.nextInt(max - min + 1);
+        Set<String> skills = new LinkedHashSet<>();
+        while (skills.size() < count) {
+            skills.add(skill(random));
+        }
+        return new ArrayList<>(skills);
+    }
+
+    /**
+     * @return Job postings with 3 to 10 skills each and IDs "job-0", "job-1", ...
+     */
+    static List<JobPosting> jobPostings(int count, long seed) {
+        Random random = new Random(seed);
+        List<JobPosting> postings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobPosting posting = new JobPosting(
+                    "Job " + i, "Description of job " + i, skills(random, 3, 10),
+                    EXPERIENCE[random.nextInt(EXPERIENCE.length)], LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    "poster-" + (i % 100), "poster" + (i % 100));
+            posting.setId("job-" + i);
+            postings.add(posting);
+        }
+        return postings;
+    }
+
+    /**
+     * @return A job description of about the given number of words, roughly one in ten of them
+     * a skill mention in mixed case.
+     */
+    static String description(Random random, int words) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                description.append(i % 12 == 0 ? ". " : " ");
+            }
+            if (random.nextInt(10) == 0) {
+                String skill = skill(random);
+                description.append(random.nextBoolean() ? skill.toUpperCase() : skill);
+            } else {
+                description.append(FILLER[random.nextInt(FILLER.length)]);
+            }
+        }
+        return description.toString();
+    }
+
+    /**
+     * @return A comma-separated skill list as sent with a resume upload, e.g. " Java, spring ,MongoDB".
+     */
+    static String rawSkillList(Random random, int count) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                raw.append(random.nextBoolean() ? "," : ", ");
+            }
+            String skill = skill(random);
+            raw.append(random.nextBoolean() ? skill.toUpperCase() : skill);
+            if (random.nextInt(4) == 0) {
+                raw.append(' ');
+            }
+        }
+        return raw.toString();
+    }
+}
@@ -0,0 +1,69 @@
+// src/jmh/java/com/example/job_platform/benchmark/JwtBenchmark.java
+package com.example.job_platform.benchmark;
+
+import com.example.job_platform.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT generation and verification in JwtUtil: a full HS256 parse (claims cache disabled) versus
+ * a repeated verification of the same token served from the claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtBenchmark {
+
+    private static final int TOKENS = 256;
+
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String[] uncachedTokens;
+    private String[] cachedTokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        uncachedJwtUtil = new JwtUtil(0, new SimpleMeterRegistry());
+        cachedJwtUtil = new JwtUtil(10_000, new SimpleMeterRegistry());
+        uncachedTokens = new String[TOKENS];
+        cachedTokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            uncachedTokens[i] = uncachedJwtUtil.generateToken("user" + i, "id-" + i, i % 2 == 0 ? "Post" : "Apply");
+            cachedTokens[i] = cachedJwtUtil.generateToken("user" + i, "id-" + i, i % 2 == 0 ? "Post" : "Apply");
+            cachedJwtUtil.extractAllClaims(cachedTokens[i]); // Warm the claims cache
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        int i = next++ & (TOKENS - 1);
+        return uncachedJwtUtil.generateToken("user" + i, "id-" + i, "Apply");
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return uncachedJwtUtil.extractAllClaims(uncachedTokens[next++ & (TOKENS - 1)]);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return cachedJwtUtil.extractAllClaims(cachedTokens[next++ & (TOKENS - 1)]);
+    }
+}
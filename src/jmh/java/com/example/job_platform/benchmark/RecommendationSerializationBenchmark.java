@@ -0,0 +1,65 @@
+// src/jmh/java/com/example/job_platform/benchmark/RecommendationSerializationBenchmark.java
+package com.example.job_platform.benchmark;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a page of JobRecommendation objects, as written by the recommendations
+ * endpoint. The mapper is configured like Spring Boot's (Java time module, ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecommendationSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int recommendations;
+
+    private ObjectWriter writer;
+    private List<JobRecommendation> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, JobRecommendation.class));
+
+        page = new ArrayList<>(recommendations);
+        List<JobPosting> postings = BenchmarkData.jobPostings(recommendations, BenchmarkData.SEED);
+        for (int i = 0; i < postings.size(); i++) {
+            page.add(new JobRecommendation(postings.get(i), 1.0 - i / (double) recommendations));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
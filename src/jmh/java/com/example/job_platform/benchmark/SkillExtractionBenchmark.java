@@ -0,0 +1,65 @@
+// src/jmh/java/com/example/job_platform/benchmark/SkillExtractionBenchmark.java
+package com.example.job_platform.benchmark;
+
+import com.example.job_platform.util.AhoCorasick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-pass scan of a job description against the whole skill vocabulary with the Aho-Corasick
+ * automaton used by SkillExtractor at ingest time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SkillExtractionBenchmark {
+
+    private static final int INPUTS = 256;
+
+    @Param({"100", "1000"})
+    public int descriptionWords;
+
+    private AhoCorasick matcher;
+    private String[] descriptions;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> vocabulary = new ArrayList<>(BenchmarkData.SKILL_VOCABULARY);
+        for (int i = 0; i < BenchmarkData.SKILL_VOCABULARY; i++) {
+            vocabulary.add("skill-" + i);
+        }
+        matcher = new AhoCorasick(vocabulary);
+
+        Random random = new Random(BenchmarkData.SEED);
+        descriptions = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            descriptions[i] = BenchmarkData.description(random, descriptionWords);
+        }
+    }
+
+    @Benchmark
+    public int scanDescription() {
+        int[] matches = new int[1];
+        matcher.search(descriptions[next++ & (INPUTS - 1)], (pattern, start, end) -> matches[0]++);
+        return matches[0];
+    }
+}
@@ -0,0 +1,63 @@
+// src/jmh/java/com/example/job_platform/benchmark/SkillNormalizationBenchmark.java
+package com.example.job_platform.benchmark;
+
+import com.example.job_platform.service.SkillDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The split(",") / trim / toLowerCase normalization applied to the skill list of every resume
+ * upload (SkillDictionary.parseSkillList), and the per-skill canonicalization used at indexing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SkillNormalizationBenchmark {
+
+    private static final int INPUTS = 256;
+
+    @Param({"5", "50"})
+    public int skillsPerResume;
+
+    private String[] rawSkillLists;
+    private String[] rawSkills;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        rawSkillLists = new String[INPUTS];
+        rawSkills = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            rawSkillLists[i] = BenchmarkData.rawSkillList(random, skillsPerResume);
+            rawSkills[i] = BenchmarkData.rawSkillList(random, 1);
+        }
+    }
+
+    @Benchmark
+    public List<String> parseSkillList() {
+        return SkillDictionary.parseSkillList(rawSkillLists[next++ & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public String normalizeSingleSkill() {
+        return SkillDictionary.normalize(rawSkills[next++ & (INPUTS - 1)]);
+    }
+}
@@ -3,9 +3,11 @@ package com.example.job_platform; // Updated package
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableMongoRepositories // Enable Spring Data MongoDB repositories
+@EnableScheduling // Nightly recommendation batch
 public class JobPlatformAuthApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,77 @@
+// src/main/java/com/example/job_platform/config/JwtAuthenticationFilter.java
+package com.example.job_platform.config;
+
+import com.example.job_platform.dto.AuthenticatedUser;
+import com.example.job_platform.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Authenticates requests carrying an "Authorization: Bearer <token>" header.
+ * The token is verified once per request (and its claims cached by {@link JwtUtil}); the user ID,
+ * username and section are taken from the claims into an {@link AuthenticatedUser} principal with
+ * a ROLE_POST or ROLE_APPLY authority. No database lookup is involved.
+ * Requests without a valid token simply continue unauthenticated, so public endpoints keep working
+ * with a stale token and the legacy username-in-the-body flows are unaffected.
+ * Registered by {@link SecurityConfig} on the security filter chain only (not as a servlet filter bean).
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            AuthenticatedUser principal = authenticate(header.substring(BEARER_PREFIX.length()).trim());
+            if (principal != null) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal, null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + principal.getSection().toUpperCase(Locale.ROOT))));
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * @return The principal described by the token, or null if the token is invalid, expired,
+     * or was issued before tokens carried the user ID and section.
+     */
+    private AuthenticatedUser authenticate(String token) {
+        try {
+            Claims claims = jwtUtil.extractAllClaims(token);
+            String userId = claims.get(JwtUtil.USER_ID_CLAIM, String.class);
+            String section = claims.get(JwtUtil.SECTION_CLAIM, String.class);
+            if (claims.getSubject() == null || userId == null || section == null) {
+                return null; // Old token format: the client falls back to the legacy flow until it logs in again
+            }
+            return new AuthenticatedUser(userId, claims.getSubject(), section);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null; // Malformed, forged or expired
+        }
+    }
+}
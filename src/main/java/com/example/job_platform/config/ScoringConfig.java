@@ -0,0 +1,32 @@
+// src/main/java/com/example/job_platform/config/ScoringConfig.java
+package com.example.job_platform.config;
+
+import com.example.job_platform.service.ScoringMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Match-scoring configuration shared by every ranking: applicant recommendations, applicant
+ * rankings per job and the nightly recommendation batch.
+ */
+@Configuration
+public class ScoringConfig {
+
+    /**
+     * Parses {@code recommendations.scoring.default-mode} once, so every service injecting the mode
+     * agrees on it and a bad value fails startup in one place.
+     *
+     * @param defaultMode The configured mode, "overlap" or "idf" (case-insensitive).
+     * @return The scoring mode used when a request does not choose one.
+     * @throws IllegalArgumentException If the value names no scoring mode.
+     */
+    @Bean
+    public ScoringMode defaultScoringMode(@Value("${recommendations.scoring.default-mode:overlap}") String defaultMode) {
+        ScoringMode mode = ScoringMode.fromParameter(defaultMode, ScoringMode.OVERLAP);
+        if (mode == null) {
+            throw new IllegalArgumentException("Unknown recommendations.scoring.default-mode: " + defaultMode);
+        }
+        return mode;
+    }
+}
@@ -1,14 +1,21 @@
 // src/main/java/com/example/job_platform/config/SecurityConfig.java
 package com.example.job_platform.config;
 
+import com.example.job_platform.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration; // Import CorsConfiguration
 import org.springframework.web.cors.CorsConfigurationSource; // Import CorsConfigurationSource
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource; // Import UrlBasedCorsConfigurationSource
@@ -16,30 +23,54 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource; // Import U
 import java.util.Arrays; // Import Arrays
 
 /**
- * Security configuration to explicitly permit all requests.
- * This allows us to use BCryptPasswordEncoder without enabling full Spring Security
- * authentication and authorization filters.
- * Also configures CORS to allow frontend requests from localhost:3000.
+ * Security configuration: stateless JWT authentication with CORS for the frontend on localhost:3000.
+ * A {@link JwtAuthenticationFilter} turns a valid bearer token into an authenticated principal.
+ * By default every request is still permitted, so clients that do not send a token yet keep using
+ * the username-in-the-request flows; with security.jwt.required=true, posting jobs requires a
+ * "Post" token and resume uploads/recommendations require an "Apply" token.
+ * Endpoints that expose other users' data (a job's matching applicants, resume files and their
+ * extraction status) always require a token.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private final boolean jwtRequired;
+
+    public SecurityConfig(@Value("${security.jwt.required:false}") boolean jwtRequired) {
+        this.jwtRequired = jwtRequired;
+    }
+
     /**
-     * Configures the security filter chain to permit all HTTP requests and enables CORS.
+     * Configures the security filter chain: JWT authentication, no HTTP session, CORS enabled.
      *
      * @param http The HttpSecurity object to configure.
+     * @param jwtUtil Verifies bearer tokens for the JWT filter.
      * @return The configured SecurityFilterChain.
      * @throws Exception if an error occurs during configuration.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtUtil jwtUtil) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable) // Disable CSRF for simplicity (for APIs)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // Enable CORS
-                .authorizeHttpRequests(authorize -> authorize
-                        .anyRequest().permitAll() // Permit all requests without authentication
-                );
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests(authorize -> {
+                    // Other users' data and full-collection pulls: always behind a token, whatever security.jwt.required says
+                    authorize
+                            .requestMatchers(HttpMethod.GET, "/api/jobs/*/applicants").hasRole("POST")
+                            .requestMatchers(HttpMethod.GET, "/api/resumes/files/**", "/api/resumes/extraction/**",
+                                    "/api/jobs/export").authenticated();
+                    if (jwtRequired) {
+                        authorize
+                                .requestMatchers(HttpMethod.POST, "/api/jobs", "/api/jobs/bulk").hasRole("POST")
+                                .requestMatchers("/api/resumes/upload", "/api/resumes/recommendations/**").hasRole("APPLY");
+                    }
+                    authorize.anyRequest().permitAll(); // Everything else stays public
+                });
         return http.build();
     }
 
@@ -64,6 +95,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000")); // Your React app's origin
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList("X-Next-Cursor")); // Keyset pagination cursor on GET /api/jobs
         configuration.setAllowCredentials(true); // Allow sending cookies/auth headers
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration); // Apply to all paths
@@ -2,9 +2,11 @@
 package com.example.job_platform.controller;
 
 import com.example.job_platform.model.User;
+import com.example.job_platform.service.PasswordHashingBusyException;
 import com.example.job_platform.service.UserService;
 import com.example.job_platform.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +25,9 @@ public class AuthController {
     private final UserService userService;
     private final JwtUtil jwtUtil;
 
+    // Seconds a client is asked to wait when password hashing is saturated
+    private static final String HASHING_RETRY_AFTER_SECONDS = "1";
+
     @Autowired
     public AuthController(UserService userService, JwtUtil jwtUtil) {
         this.userService = userService;
@@ -56,7 +61,12 @@ public class AuthController {
             return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
         }
 
-        User newUser = userService.signup(username, password, section); // Pass section to service
+        User newUser;
+        try {
+            newUser = userService.signup(username, password, section); // Pass section to service
+        } catch (PasswordHashingBusyException e) {
+            return hashingBusy(e);
+        }
         if (newUser != null) {
             response.put("message", "Signup successful for user: " + newUser.getUsername());
             response.put("userId", newUser.getId());
@@ -89,10 +99,16 @@ public class AuthController {
             return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
         }
 
-        Optional<User> userOptional = userService.login(username, password);
+        Optional<User> userOptional;
+        try {
+            userOptional = userService.login(username, password);
+        } catch (PasswordHashingBusyException e) {
+            return hashingBusy(e);
+        }
         if (userOptional.isPresent()) {
             // Generate JWT token upon successful login
-            String token = jwtUtil.generateToken(userOptional.get().getUsername());
+            User user = userOptional.get();
+            String token = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getSection());
 
             response.put("message", "Login successful for user: " + userOptional.get().getUsername());
             response.put("userId", userOptional.get().getId());
@@ -106,6 +122,21 @@ public class AuthController {
         }
     }
 
+    /**
+     * Fails fast when the password hashing pool is saturated, instead of queuing more BCrypt work.
+     *
+     * @param e The rejection from the hashing pool.
+     * @return ResponseEntity with HTTP status 503 and a Retry-After header.
+     */
+    private ResponseEntity<Map<String, String>> hashingBusy(PasswordHashingBusyException e) {
+        System.err.println("Rejected authentication request: " + e.getMessage());
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Server is busy. Please try again shortly.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, HASHING_RETRY_AFTER_SECONDS)
+                .body(response);
+    }
+
     /**
      * Endpoint for user logout.
      * Since there's no server-side session management in this simple example with JWTs,
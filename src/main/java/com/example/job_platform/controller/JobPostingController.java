@@ -1,42 +1,112 @@
 package com.example.job_platform.controller;
 
+import com.example.job_platform.dto.ApplicantMatch;
+import com.example.job_platform.dto.AuthenticatedUser;
+import com.example.job_platform.dto.BulkIngestItemResult;
+import com.example.job_platform.dto.JobPostingPage;
+import com.example.job_platform.dto.JobSearchResult;
 import com.example.job_platform.model.JobPosting;
 import com.example.job_platform.service.JobPostingService;
+import com.example.job_platform.service.ScoringMode;
+import com.example.job_platform.service.SkillDictionary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * REST Controller for managing job postings.
- * Provides endpoints for creating and retrieving job postings.
+ * Provides endpoints for creating (singly or in bulk), listing and exporting job postings.
  */
 @RestController
 @RequestMapping("/api/jobs") // Base path for job-related endpoints
 public class JobPostingController {
 
     private final JobPostingService jobPostingService;
+    private final ObjectMapper objectMapper; // Spring's configured mapper, so exported JSON matches the API
+    private final long exportTimeoutMs; // Only the export may run this long; other async requests keep the default
+    // Exports run on their own small pool, not Spring's shared async executor, so they never queue other async work
+    private final ThreadPoolExecutor exportPool;
+    private final AsyncTaskExecutor exportExecutor;
+
+    // Upper bound for one page of the job listing
+    private static final int MAX_PAGE_LIMIT = 100;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // Postings written between flushes of the export stream
+    private static final int EXPORT_FLUSH_EVERY = 500;
+    private static final String EXPORT_RETRY_AFTER_SECONDS = "30";
 
     @Autowired
-    public JobPostingController(JobPostingService jobPostingService) {
+    public JobPostingController(JobPostingService jobPostingService, ObjectMapper objectMapper,
+                                @Value("${jobs.export.timeout-ms:1800000}") long exportTimeoutMs,
+                                @Value("${jobs.export.max-concurrent:2}") int maxConcurrentExports) {
         this.jobPostingService = jobPostingService;
+        this.objectMapper = objectMapper;
+        this.exportTimeoutMs = exportTimeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // No queue: once every thread is streaming, AbortPolicy rejects further exports (answered with 503)
+        this.exportPool = new ThreadPoolExecutor(maxConcurrentExports, maxConcurrentExports, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "job-export-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.exportExecutor = new TaskExecutorAdapter(exportPool); // Turns rejections into TaskRejectedException
+    }
+
+    @PreDestroy
+    public void shutdownExportPool() {
+        exportPool.shutdownNow(); // Interrupts running exports, which close their cursors
     }
 
     /**
      * Endpoint to create a new job posting.
      * Requires the user to be of "Post" section.
-     * Expects a JSON payload with job details and the poster's username.
+     * Expects a JSON payload with job details. The poster is taken from the bearer token when one is
+     * sent (authorized from its claims, without a user lookup); otherwise 'posterUsername' is required.
      *
      * @param requestBody A Map containing 'title', 'description', 'skills' (List),
-     * 'experience', 'location', and 'posterUsername'.
+     * 'experience', 'location', and 'posterUsername' (optional with a token).
+     * @param principal The caller authenticated from the bearer token, or null without one.
      * @return ResponseEntity with the created job posting or an error message.
      */
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createJobPosting(@RequestBody Map<String, Object> requestBody) {
+    public ResponseEntity<Map<String, Object>> createJobPosting(@RequestBody Map<String, Object> requestBody,
+                                                                @AuthenticationPrincipal AuthenticatedUser principal) {
         String title = (String) requestBody.get("title");
         String description = (String) requestBody.get("description");
         // Skills will come as a List<String> from JSON
@@ -48,15 +118,18 @@ public class JobPostingController {
 
         // Basic validation
         if (title == null || description == null || skills == null || experience == null ||
-                location == null || posterUsername == null ||
+                location == null || (principal == null && (posterUsername == null || posterUsername.isEmpty())) ||
                 title.isEmpty() || description.isEmpty() || experience.isEmpty() ||
-                location.isEmpty() || posterUsername.isEmpty()) {
+                location.isEmpty()) {
             return ResponseEntity.badRequest().body(Map.of("message", "All fields (title, description, skills, experience, location, posterUsername) are required."));
         }
+        if (isOtherUser(principal, posterUsername)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "Cannot post jobs on behalf of another user."));
+        }
 
-        Optional<JobPosting> jobPosting = jobPostingService.createJobPosting(
-                title, description, skills, experience, location, posterUsername
-        );
+        Optional<JobPosting> jobPosting = principal != null
+                ? jobPostingService.createJobPosting(title, description, skills, experience, location, principal)
+                : jobPostingService.createJobPosting(title, description, skills, experience, location, posterUsername);
 
         if (jobPosting.isPresent()) {
             return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
@@ -72,13 +145,278 @@ public class JobPostingController {
     }
 
     /**
-     * Endpoint to retrieve all job postings.
+     * Endpoint to create many job postings at once from a JSON payload.
+     * Expects {"posterUsername": "...", "jobs": [{title, description, skills, experience, location}, ...]};
+     * 'posterUsername' is optional when a bearer token is sent.
      *
-     * @return ResponseEntity with a list of all job postings.
+     * @param requestBody A Map containing 'posterUsername' and the 'jobs' array.
+     * @param principal The caller authenticated from the bearer token, or null without one.
+     * @return ResponseEntity with created/invalid/failed counts and one result per item.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> bulkCreateJobPostings(@RequestBody Map<String, Object> requestBody,
+                                                                     @AuthenticationPrincipal AuthenticatedUser principal) {
+        String posterUsername = requestBody.get("posterUsername") instanceof String value ? value : null;
+        if ((principal == null && (posterUsername == null || posterUsername.isEmpty()))
+                || !(requestBody.get("jobs") instanceof List<?> jobs)) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Fields 'posterUsername' and 'jobs' (array) are required."));
+        }
+        if (isOtherUser(principal, posterUsername)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "Cannot post jobs on behalf of another user."));
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>(jobs.size());
+        for (Object job : jobs) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> item = job instanceof Map<?, ?> ? (Map<String, Object>) job : null;
+            items.add(item); // Non-object entries are reported as invalid by the service
+        }
+        return bulkIngestResponse(principal != null
+                ? jobPostingService.ingestJobPostings(principal, items.iterator())
+                : jobPostingService.ingestJobPostings(posterUsername, items.iterator()));
+    }
+
+    /**
+     * Endpoint to create many job postings at once from a newline-delimited JSON stream
+     * (one job object per line). The stream is parsed and inserted incrementally.
+     *
+     * @param posterUsername The username of the poster (optional when a bearer token is sent).
+     * @param principal The caller authenticated from the bearer token, or null without one.
+     * @param inputStream The NDJSON request body.
+     * @return ResponseEntity with created/invalid/failed counts and one result per item.
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<Map<String, Object>> bulkCreateJobPostingsFromNdjson(
+            @RequestParam(value = "posterUsername", required = false) String posterUsername,
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            InputStream inputStream) {
+        if (principal == null && (posterUsername == null || posterUsername.isEmpty())) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Parameter 'posterUsername' is required."));
+        }
+        if (isOtherUser(principal, posterUsername)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "Cannot post jobs on behalf of another user."));
+        }
+
+        MappingIterator<Map<String, Object>> items;
+        try {
+            items = objectMapper.readerFor(new TypeReference<Map<String, Object>>() { }).readValues(inputStream);
+        } catch (IOException e) {
+            // Nothing has been read, let alone inserted
+            return ResponseEntity.badRequest().body(Map.of("message", "Malformed NDJSON: " + e.getMessage()));
+        }
+        // A malformed line later in the stream ends ingestion there; it is reported as an invalid item,
+        // alongside the results of every item before it, so the client knows exactly what to resend
+        Optional<List<BulkIngestItemResult>> results = principal != null
+                ? jobPostingService.ingestJobPostings(principal, items)
+                : jobPostingService.ingestJobPostings(posterUsername, items);
+        try {
+            items.close();
+        } catch (IOException e) {
+            System.err.println("Error closing NDJSON request stream: " + e.getMessage());
+        }
+        return bulkIngestResponse(results);
+    }
+
+    /**
+     * @return true if the request carries a token but names a different poster in its body or parameters.
+     */
+    private static boolean isOtherUser(AuthenticatedUser principal, String posterUsername) {
+        return principal != null && posterUsername != null && !posterUsername.isEmpty()
+                && !posterUsername.equals(principal.getUsername());
+    }
+
+    private ResponseEntity<Map<String, Object>> bulkIngestResponse(Optional<List<BulkIngestItemResult>> results) {
+        if (results.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                    "message", "Failed to create job postings. Ensure the user exists and has 'Post' section."
+            ));
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        for (BulkIngestItemResult result : results.get()) {
+            counts.merge(result.getStatus(), 1L, Long::sum);
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("created", counts.getOrDefault(BulkIngestItemResult.CREATED, 0L));
+        response.put("invalid", counts.getOrDefault(BulkIngestItemResult.INVALID, 0L));
+        response.put("failed", counts.getOrDefault(BulkIngestItemResult.FAILED, 0L));
+        response.put("results", results.get());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint to retrieve job postings, newest first, one page at a time.
+     * The response body is the page's postings; when more postings follow, the cursor for the
+     * next page is returned in the X-Next-Cursor header.
+     *
+     * @param cursor The X-Next-Cursor value from the previous page (omit for the first page).
+     * @param limit The maximum number of postings to return (1 to 100, default 20).
+     * @param location Optional location filter.
+     * @param experience Optional experience filter.
+     * @param skill Optional required-skill filter.
+     * @param includeDescription Whether to include job descriptions (default true).
+     * @return ResponseEntity with one page of job postings.
      */
     @GetMapping
-    public ResponseEntity<List<JobPosting>> getAllJobPostings() {
-        List<JobPosting> jobPostings = jobPostingService.getAllJobPostings();
-        return ResponseEntity.ok(jobPostings);
+    public ResponseEntity<List<JobPosting>> getAllJobPostings(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "experience", required = false) String experience,
+            @RequestParam(value = "skill", required = false) String skill,
+            @RequestParam(value = "includeDescription", defaultValue = "true") boolean includeDescription) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            return ResponseEntity.badRequest().body(List.of());
+        }
+
+        JobPostingPage page;
+        try {
+            page = jobPostingService.getJobPostingsPage(cursor, limit, location, experience, skill, includeDescription);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(List.of()); // Malformed cursor
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getJobPostings());
+    }
+
+    /**
+     * Endpoint to search job postings by title and description, best match first (BM25 ranking).
+     * All query terms must occur; double-quoted parts must occur as phrases,
+     * e.g. {@code q=backend "spring boot"}.
+     *
+     * @param query The search query.
+     * @param location Optional location filter.
+     * @param skills Optional comma-separated skills every hit must list, e.g. "java,mongodb".
+     * @param limit The maximum number of hits to return (1 to 100, default 20).
+     * @param offset The number of top-ranked hits to skip (default 0).
+     * @return ResponseEntity with one page of hits and their relevance scores.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<JobSearchResult>> searchJobPostings(
+            @RequestParam("q") String query,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "skills", required = false) String skills,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "offset", defaultValue = "0") int offset) {
+        if (query.isBlank() || limit < 1 || limit > MAX_PAGE_LIMIT || offset < 0) {
+            return ResponseEntity.badRequest().body(List.of());
+        }
+        List<String> requiredSkills = SkillDictionary.parseSkillList(skills);
+        requiredSkills.removeIf(String::isEmpty);
+        return ResponseEntity.ok(jobPostingService.searchJobPostings(query, location, requiredSkills, offset, limit));
+    }
+
+    /**
+     * Endpoint for a poster to find the applicants whose resumes best match one of their job postings.
+     * Applicants are ranked by the match score the job gets among their own recommendations.
+     * Always requires a "Post" bearer token: the response exposes other users' resume skills, so a
+     * username in the request is never trusted here.
+     *
+     * @param jobId The ID of the job posting.
+     * @param limit The maximum number of applicants to return (1 to 100, default 20).
+     * @param offset The number of top-ranked applicants to skip (default 0).
+     * @param scoring "overlap" (every skill counts the same) or "idf" (rare skills count more);
+     *                defaults to recommendations.scoring.default-mode.
+     * @param principal The caller authenticated from the bearer token, or null without one.
+     * @return ResponseEntity with one page of applicants and their match scores, 401 without a token,
+     * 403 if the job was posted by someone else, or 404 if no such job exists.
+     */
+    @GetMapping("/{jobId}/applicants")
+    public ResponseEntity<List<ApplicantMatch>> getTopApplicants(
+            @PathVariable String jobId,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "scoring", required = false) String scoring,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(List.of()); // Also enforced by SecurityConfig
+        }
+        ScoringMode mode = ScoringMode.fromParameter(scoring, jobPostingService.getDefaultScoringMode());
+        if (limit < 1 || limit > MAX_PAGE_LIMIT || offset < 0 || mode == null) {
+            return ResponseEntity.badRequest().body(List.of()); // Invalid page or scoring parameters
+        }
+
+        Optional<JobPosting> job = jobPostingService.getJobPosting(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(List.of());
+        }
+        if (!principal.isPoster() || !principal.getUsername().equals(job.get().getPostedByUsername())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(List.of()); // Own postings, "Post" users only
+        }
+        return ResponseEntity.ok(jobPostingService.getTopApplicants(job.get(), limit, offset, mode));
+    }
+
+    /**
+     * Endpoint to export job postings as newline-delimited JSON (one posting per line), oldest first.
+     * Postings are streamed from a Mongo cursor and flushed to the client in chunks, so memory use
+     * stays constant however many postings are exported. The stream is written on the dedicated export
+     * executor (at most {@code jobs.export.max-concurrent} exports at once; further requests get 503)
+     * with its own timeout ({@code jobs.export.timeout-ms}); when it expires the export is
+     * interrupted and the cursor closed, so the client gets a 503 or, if postings were already sent,
+     * a truncated stream it can resume with {@code since}.
+     * Requires a bearer token (enforced by SecurityConfig), as it pulls the whole collection.
+     *
+     * @param since Optional ISO date-time; only postings with postedDate at or after it are exported.
+     *              Pass the postedDate of the last posting already received for incremental pulls.
+     * @param response The response the postings are streamed to as application/x-ndjson.
+     * @return The export task, carrying the export's timeout.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public WebAsyncTask<Void> exportJobPostings(
+            @RequestParam(value = "since", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            HttpServletResponse response) {
+        Callable<Void> export = () -> {
+            response.setContentType("application/x-ndjson");
+            long exported = 0;
+            try (Stream<JobPosting> jobPostings = jobPostingService.streamJobPostings(since);
+                 SequenceWriter writer = objectMapper.writerFor(JobPosting.class)
+                         .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE) // We flush per chunk instead
+                         .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                         .withRootValueSeparator("\n")
+                         .writeValues(response.getOutputStream())) {
+                Iterator<JobPosting> iterator = jobPostings.iterator();
+                while (iterator.hasNext()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        System.err.println("Export timed out after " + exported + " job postings.");
+                        return null; // Interrupted by the timeout; the request is already being completed
+                    }
+                    writer.write(iterator.next());
+                    if (++exported % EXPORT_FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+            System.out.println("Exported " + exported + " job postings" + (since != null ? " since " + since : "") + ".");
+            return null;
+        };
+        WebAsyncTask<Void> task = new WebAsyncTask<>(exportTimeoutMs, exportExecutor, export);
+        task.onTimeout(() -> {
+            if (!response.isCommitted()) {
+                response.setContentType(null); // Nothing sent yet: the 503 error body is JSON, not NDJSON
+            }
+            throw new AsyncRequestTimeoutException(); // What Spring does by default: 503
+        });
+        return task;
+    }
+
+    /**
+     * Answers an export that found every export thread busy; the rejection reaches here as the
+     * async result of {@link #exportJobPostings}.
+     *
+     * @param e The rejection from the export executor.
+     * @return ResponseEntity with HTTP status 503 and a Retry-After header.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, String>> exportBusy(TaskRejectedException e) {
+        System.err.println("Rejected job export: " + e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, EXPORT_RETRY_AFTER_SECONDS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("message", "Too many exports in progress. Please try again shortly."));
     }
 }
@@ -0,0 +1,95 @@
+// src/main/java/com/example/job_platform/controller/ReactiveJobController.java
+package com.example.job_platform.controller;
+
+import com.example.job_platform.dto.AuthenticatedUser;
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import com.example.job_platform.service.ReactiveJobService;
+import com.example.job_platform.service.ScoringMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * REST Controller with streaming, non-blocking variants of the job listing and recommendation reads.
+ * Responses are newline-delimited JSON (one object per line). The request thread is released while
+ * Mongo is queried, and each element is written only when the previous write has completed, so a
+ * slow client slows the Mongo cursor down instead of buffering results in memory.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveJobController {
+
+    private final ReactiveJobService reactiveJobService;
+
+    private static final String NDJSON = "application/x-ndjson";
+    // Upper bound for one page of recommendations, as on the blocking endpoint
+    private static final int MAX_RECOMMENDATIONS_LIMIT = 100;
+    // Upper bound for one streamed page of postings, as on GET /api/jobs; full pulls use the authenticated export
+    private static final int MAX_PAGE_LIMIT = 100;
+
+    @Autowired
+    public ReactiveJobController(ReactiveJobService reactiveJobService) {
+        this.reactiveJobService = reactiveJobService;
+    }
+
+    /**
+     * Endpoint to stream one page of job postings, newest first. The stream is public, so it is
+     * bounded like the blocking listing; use GET /api/jobs/export (bearer token required) to pull
+     * the whole collection.
+     *
+     * @param location Optional location filter.
+     * @param experience Optional experience filter.
+     * @param skill Optional required-skill filter.
+     * @param includeDescription Whether to include job descriptions (default true).
+     * @param limit The maximum number of postings to stream (1 to 100, default 20).
+     * @return ResponseEntity streaming application/x-ndjson, or 400 for a limit out of range.
+     */
+    @GetMapping(value = "/jobs", produces = NDJSON)
+    public ResponseEntity<Flux<JobPosting>> streamJobPostings(
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "experience", required = false) String experience,
+            @RequestParam(value = "skill", required = false) String skill,
+            @RequestParam(value = "includeDescription", defaultValue = "true") boolean includeDescription,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            return ResponseEntity.badRequest().body(Flux.empty());
+        }
+        return ResponseEntity.ok(reactiveJobService.streamJobPostings(location, experience, skill, includeDescription, limit));
+    }
+
+    /**
+     * Endpoint to stream one page of the caller's job recommendations, best match first.
+     * Requires a bearer token of the applicant: authorization is decided from the token's claims
+     * before streaming starts, without a database lookup.
+     *
+     * @param applicantUsername The username of the applicant (must be the token's user).
+     * @param limit The maximum number of recommendations to return (1 to 100, default 20).
+     * @param offset The number of top-ranked recommendations to skip (default 0).
+     * @param scoring "overlap" or "idf", as on the blocking endpoint.
+     * @param principal The caller authenticated from the bearer token.
+     * @return ResponseEntity streaming application/x-ndjson.
+     */
+    @GetMapping(value = "/recommendations/{applicantUsername}", produces = NDJSON)
+    public ResponseEntity<Flux<JobRecommendation>> streamRecommendations(
+            @PathVariable String applicantUsername,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "scoring", required = false) String scoring,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        ScoringMode mode = ScoringMode.fromParameter(scoring, reactiveJobService.getDefaultScoringMode());
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS_LIMIT || offset < 0 || mode == null) {
+            return ResponseEntity.badRequest().body(Flux.empty()); // Invalid page or scoring parameters
+        }
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Flux.empty());
+        }
+        if (!applicantUsername.equals(principal.getUsername()) || !principal.isApplicant()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Flux.empty()); // Own recommendations, "Apply" users only
+        }
+        return ResponseEntity.ok(reactiveJobService.streamRecommendations(applicantUsername, limit, offset, mode));
+    }
+}
@@ -0,0 +1,39 @@
+// src/main/java/com/example/job_platform/controller/RecommendationBatchController.java
+package com.example.job_platform.controller;
+
+import com.example.job_platform.service.RecommendationBatchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * REST Controller for the batch recommendation engine that materializes every applicant's
+ * top recommendations. Runs are only started by the nightly schedule
+ * (recommendations.batch.cron): there is no admin role to guard an on-demand trigger with,
+ * and a full-corpus run must not be startable by any caller.
+ */
+@RestController
+@RequestMapping("/api/batch/recommendations")
+public class RecommendationBatchController {
+
+    private final RecommendationBatchService recommendationBatchService;
+
+    @Autowired
+    public RecommendationBatchController(RecommendationBatchService recommendationBatchService) {
+        this.recommendationBatchService = recommendationBatchService;
+    }
+
+    /**
+     * Endpoint to read the progress, throughput and per-partition timings of the current or last run.
+     *
+     * @return ResponseEntity with the run status.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(recommendationBatchService.getStatus());
+    }
+}
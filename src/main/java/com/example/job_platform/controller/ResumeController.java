@@ -1,13 +1,23 @@
 // src/main/java/com/example/job_platform/controller/ResumeController.java
 package com.example.job_platform.controller;
 
+import com.example.job_platform.dto.AuthenticatedUser;
 import com.example.job_platform.dto.JobRecommendation; // Import the new DTO
 import com.example.job_platform.model.User;
+import com.example.job_platform.service.ResumeExtractionService;
 import com.example.job_platform.service.ResumeService;
+import com.example.job_platform.service.ScoringMode;
 import com.example.job_platform.service.UserService;
+import com.mongodb.client.gridfs.model.GridFSFile;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -16,7 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 
 /**
- * REST Controller for resume-related operations, primarily upload and recommendations.
+ * REST Controller for resume-related operations, primarily upload, download and recommendations.
  */
 @RestController
 @RequestMapping("/api/resumes")
@@ -24,45 +34,65 @@ public class ResumeController {
 
     private final ResumeService resumeService;
     private final UserService userService;
+    private final ResumeExtractionService resumeExtractionService;
+
+    // Upper bound for one page of recommendations
+    private static final int MAX_RECOMMENDATIONS_LIMIT = 100;
 
     @Autowired
-    public ResumeController(ResumeService resumeService, UserService userService) {
+    public ResumeController(ResumeService resumeService, UserService userService,
+                            ResumeExtractionService resumeExtractionService) {
         this.resumeService = resumeService;
         this.userService = userService;
+        this.resumeExtractionService = resumeExtractionService;
     }
 
     /**
      * Endpoint for "Apply" users to upload their resume (PDF).
      * Accepts a MultipartFile for the PDF and additional metadata (skills, summary).
+     * With a bearer token the applicant is taken from the token and authorized from its claims;
+     * without one, the 'username' parameter is required and the user is looked up.
      *
-     * @param username The username of the applicant.
+     * @param username The username of the applicant (optional when a bearer token is sent).
      * @param file The PDF resume file.
-     * @param extractedSkills Comma-separated skills (e.g., "Java,Spring,MongoDB").
+     * @param extractedSkills Comma-separated skills (e.g., "Java,Spring,MongoDB"); used until the skills
+     *                        extracted from the PDF replace them.
      * @param resumeSummary A brief summary or keywords from the resume.
+     * @param principal The caller authenticated from the bearer token, or null without one.
      * @return ResponseEntity with success/failure message.
      */
     @PostMapping("/upload")
     public ResponseEntity<Map<String, String>> uploadResume(
-            @RequestParam("username") String username,
+            @RequestParam(value = "username", required = false) String username,
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "extractedSkills", required = false) String extractedSkills,
-            @RequestParam(value = "resumeSummary", required = false) String resumeSummary) {
+            @RequestParam(value = "resumeSummary", required = false) String resumeSummary,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
 
         Map<String, String> response;
-
-        if (username == null || username.isEmpty()) {
-            response = Map.of("message", "Username is required for resume upload.");
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-
-        Optional<User> userOptional = userService.findByUsername(username);
-        if (userOptional.isEmpty()) {
-            response = Map.of("message", "User not found.");
-            return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+        AuthenticatedUser applicant;
+
+        if (principal != null) {
+            if (username != null && !username.isEmpty() && !username.equals(principal.getUsername())) {
+                response = Map.of("message", "Cannot upload a resume for another user.");
+                return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
+            }
+            applicant = principal; // Authorized from the token's claims, no user lookup
+        } else {
+            if (username == null || username.isEmpty()) {
+                response = Map.of("message", "Username is required for resume upload.");
+                return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            }
+
+            Optional<User> userOptional = userService.findByUsername(username);
+            if (userOptional.isEmpty()) {
+                response = Map.of("message", "User not found.");
+                return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+            }
+            applicant = AuthenticatedUser.of(userOptional.get());
         }
 
-        User user = userOptional.get();
-        if (!"Apply".equalsIgnoreCase(user.getSection())) {
+        if (!applicant.isApplicant()) {
             response = Map.of("message", "Only users with 'Apply' section can upload resumes.");
             return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
         }
@@ -77,12 +107,13 @@ public class ResumeController {
             return new ResponseEntity<>(response, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
         }
 
-        Optional<String> gridFsFileId = resumeService.uploadResume(username, file, extractedSkills, resumeSummary);
+        Optional<String> gridFsFileId = resumeService.uploadResume(applicant, file, extractedSkills, resumeSummary);
 
         if (gridFsFileId.isPresent()) {
             response = Map.of(
                     "message", "Resume uploaded successfully.",
-                    "gridFsId", gridFsFileId.get()
+                    "gridFsId", gridFsFileId.get(),
+                    "extractionStatusUrl", "/api/resumes/extraction/" + gridFsFileId.get() // Skills are extracted in the background
             );
             return new ResponseEntity<>(response, HttpStatus.OK);
         } else {
@@ -93,12 +124,38 @@ public class ResumeController {
 
     /**
      * Endpoint to get job recommendations for a specific applicant based on their resume skills.
+     * Results are paginated; only the requested page of the ranking is computed and returned.
+     * With a bearer token the caller is authorized from its claims and may only read their own
+     * recommendations; a cached ranking is then served without touching the database.
      *
      * @param applicantUsername The username of the applicant.
+     * @param limit The maximum number of recommendations to return (1 to 100, default 20).
+     * @param offset The number of top-ranked recommendations to skip (default 0).
+     * @param scoring "overlap" (every skill counts the same) or "idf" (rare skills count more);
+     *                defaults to recommendations.scoring.default-mode.
+     * @param principal The caller authenticated from the bearer token, or null without one.
      * @return A list of recommended jobs with their match scores, or an empty list.
      */
     @GetMapping("/recommendations/{applicantUsername}")
-    public ResponseEntity<List<JobRecommendation>> getJobRecommendations(@PathVariable String applicantUsername) {
+    public ResponseEntity<List<JobRecommendation>> getJobRecommendations(
+            @PathVariable String applicantUsername,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "scoring", required = false) String scoring,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        ScoringMode mode = ScoringMode.fromParameter(scoring, resumeService.getDefaultScoringMode());
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS_LIMIT || offset < 0 || mode == null) {
+            return ResponseEntity.badRequest().body(List.of()); // Invalid page or scoring parameters
+        }
+
+        if (principal != null) {
+            if (!applicantUsername.equals(principal.getUsername()) || !principal.isApplicant()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(List.of()); // Own recommendations, "Apply" users only
+            }
+            return ResponseEntity.ok(resumeService.getRecommendedJobsForApplicant(applicantUsername, limit, offset, mode));
+        }
+
+        long cacheVersion = resumeService.recommendationCacheVersion(); // Before the user is loaded
         Optional<User> userOptional = userService.findByUsername(applicantUsername);
         if (userOptional.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(List.of()); // User not found
@@ -108,7 +165,75 @@ public class ResumeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(List.of()); // Only "Apply" users get recommendations
         }
 
-        List<JobRecommendation> recommendations = resumeService.getRecommendedJobsForApplicant(applicantUsername);
+        List<JobRecommendation> recommendations = // Reuses the user loaded above
+                resumeService.getRecommendedJobsForApplicant(user, limit, offset, mode, cacheVersion);
         return ResponseEntity.ok(recommendations);
     }
+
+    /**
+     * Endpoint to download a stored resume by its GridFS ID.
+     * The file is streamed from GridFS without buffering it in memory. Spring MVC answers
+     * Range requests for the returned Resource with 206 Partial Content, and an If-None-Match
+     * header matching the ETag (file ID plus length; GridFS files are never modified) with 304.
+     * Requires a bearer token; only the resume's owner and "Post" users may download it.
+     *
+     * @param gridFsId The GridFS ID of the resume file.
+     * @param principal The caller authenticated from the bearer token, or null without one.
+     * @return ResponseEntity streaming the file, 401 without a token, 403 if the caller may not
+     * read it, or 404 if no such file exists.
+     */
+    @GetMapping("/files/{gridFsId}")
+    public ResponseEntity<Resource> downloadResume(@PathVariable String gridFsId,
+                                                   @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(); // Also enforced by SecurityConfig
+        }
+        Optional<GridFSFile> fileOptional = resumeService.getResumeFile(gridFsId);
+        if (fileOptional.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        GridFSFile file = fileOptional.get();
+        if (!resumeService.canReadResume(principal, file)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        String contentType = file.getMetadata() != null && file.getMetadata().getString("_contentType") != null
+                ? file.getMetadata().getString("_contentType")
+                : MediaType.APPLICATION_PDF_VALUE;
+
+        return ResponseEntity.ok()
+                .eTag(file.getObjectId().toHexString() + "-" + file.getLength())
+                .lastModified(file.getUploadDate().toInstant())
+                .cacheControl(CacheControl.noCache().cachePrivate()) // Always revalidate; a 304 is cheap
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .contentType(MediaType.parseMediaType(contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename(file.getFilename() != null ? file.getFilename() : gridFsId + ".pdf")
+                        .build().toString())
+                .body(resumeService.getResumeContent(file));
+    }
+
+    /**
+     * Endpoint to check the progress of the server-side skill extraction of an uploaded resume.
+     * The status is PENDING (queued), EXTRACTING, COMPLETED (with the extracted skills, which replaced
+     * the uploaded ones), FAILED (with an error; the uploaded skills are kept), REJECTED (queue was full;
+     * the uploaded skills are kept), TOO_LARGE (over the extraction size limit; the uploaded skills are
+     * kept) or DISABLED.
+     * Requires a bearer token; only the resume's owner may see its status.
+     *
+     * @param gridFsId The GridFS ID returned by the upload.
+     * @param principal The caller authenticated from the bearer token, or null without one.
+     * @return ResponseEntity with the extraction status, 401 without a token, or 404 if no such
+     * resume exists or it belongs to another user.
+     */
+    @GetMapping("/extraction/{gridFsId}")
+    public ResponseEntity<Map<String, Object>> getExtractionStatus(@PathVariable String gridFsId,
+                                                                   @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(); // Also enforced by SecurityConfig
+        }
+        return resumeExtractionService.getStatus(gridFsId, principal.getUsername())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
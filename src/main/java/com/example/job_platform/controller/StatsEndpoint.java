@@ -0,0 +1,68 @@
+// src/main/java/com/example/job_platform/controller/StatsEndpoint.java
+package com.example.job_platform.controller;
+
+import com.example.job_platform.service.ApplicantSkillIndex;
+import com.example.job_platform.service.JobSearchIndex;
+import com.example.job_platform.service.PasswordHashingExecutor;
+import com.example.job_platform.service.RecommendationCache;
+import com.example.job_platform.service.ResumeExtractionService;
+import com.example.job_platform.service.UserLookupCache;
+import com.example.job_platform.service.UsernameBloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/stats}) exposing runtime counters of the in-process caches and
+ * pools for monitoring. Like the other actuator endpoints it is served on the management port only,
+ * which listens on loopback, so the counters are never published on the public API port.
+ */
+@Component
+@Endpoint(id = "stats")
+public class StatsEndpoint {
+
+    private final RecommendationCache recommendationCache;
+    private final UserLookupCache userLookupCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UsernameBloomFilter usernameBloomFilter;
+    private final JobSearchIndex jobSearchIndex;
+    private final ResumeExtractionService resumeExtractionService;
+    private final ApplicantSkillIndex applicantSkillIndex;
+
+    @Autowired
+    public StatsEndpoint(RecommendationCache recommendationCache, UserLookupCache userLookupCache,
+                           PasswordHashingExecutor passwordHashingExecutor, UsernameBloomFilter usernameBloomFilter,
+                           JobSearchIndex jobSearchIndex, ResumeExtractionService resumeExtractionService,
+                           ApplicantSkillIndex applicantSkillIndex) {
+        this.recommendationCache = recommendationCache;
+        this.userLookupCache = userLookupCache;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.usernameBloomFilter = usernameBloomFilter;
+        this.jobSearchIndex = jobSearchIndex;
+        this.resumeExtractionService = resumeExtractionService;
+        this.applicantSkillIndex = applicantSkillIndex;
+    }
+
+    /**
+     * Reads cache counters (size, hits, misses, evictions, hit ratio) and the password
+     * hashing pool's queue depth, rejections and hash latency.
+     *
+     * @return One stats section per cache or pool.
+     */
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("recommendationCache", recommendationCache.stats());
+        stats.put("userCache", userLookupCache.stats());
+        stats.put("passwordHashing", passwordHashingExecutor.stats());
+        stats.put("usernameBloomFilter", usernameBloomFilter.stats());
+        stats.put("jobSearchIndex", jobSearchIndex.stats());
+        stats.put("resumeExtraction", resumeExtractionService.stats());
+        stats.put("applicantSkillIndex", applicantSkillIndex.stats());
+        return stats;
+    }
+}
@@ -0,0 +1,46 @@
+// src/main/java/com/example/job_platform/dto/ApplicantMatch.java
+package com.example.job_platform.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) to represent an applicant matching a job posting, with the same
+ * match score the applicant would see for that job among their recommendations.
+ */
+public class ApplicantMatch {
+    private String username;
+    private List<String> resumeSkills;
+    private double matchScore; // Share of the job's required skills the applicant has
+
+    public ApplicantMatch(String username, List<String> resumeSkills, double matchScore) {
+        this.username = username;
+        this.resumeSkills = resumeSkills;
+        this.matchScore = matchScore;
+    }
+
+    // Getters
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getResumeSkills() {
+        return resumeSkills;
+    }
+
+    public double getMatchScore() {
+        return matchScore;
+    }
+
+    // Setters (optional, typically DTOs are immutable)
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setResumeSkills(List<String> resumeSkills) {
+        this.resumeSkills = resumeSkills;
+    }
+
+    public void setMatchScore(double matchScore) {
+        this.matchScore = matchScore;
+    }
+}
@@ -0,0 +1,58 @@
+// src/main/java/com/example/job_platform/dto/AuthenticatedUser.java
+package com.example.job_platform.dto;
+
+import com.example.job_platform.model.User;
+
+/**
+ * The caller of a request, as established from the claims of a verified JWT
+ * (see {@link com.example.job_platform.config.JwtAuthenticationFilter}).
+ * Carries everything the Post/Apply authorization checks need, so they require no user lookup.
+ */
+public class AuthenticatedUser {
+    private final String userId;
+    private final String username;
+    private final String section;
+
+    public AuthenticatedUser(String userId, String username, String section) {
+        this.userId = userId;
+        this.username = username;
+        this.section = section;
+    }
+
+    /**
+     * Builds the principal for a user loaded from the database (legacy requests without a token).
+     *
+     * @param user The user document.
+     * @return The equivalent principal.
+     */
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getSection());
+    }
+
+    // Getters
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getSection() {
+        return section;
+    }
+
+    /**
+     * @return true if the user may post jobs ("Post" section).
+     */
+    public boolean isPoster() {
+        return "Post".equalsIgnoreCase(section);
+    }
+
+    /**
+     * @return true if the user may upload resumes and get recommendations ("Apply" section).
+     */
+    public boolean isApplicant() {
+        return "Apply".equalsIgnoreCase(section);
+    }
+}
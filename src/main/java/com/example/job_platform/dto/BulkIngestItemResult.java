@@ -0,0 +1,59 @@
+// src/main/java/com/example/job_platform/dto/BulkIngestItemResult.java
+package com.example.job_platform.dto;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of one item of a bulk job posting ingestion.
+ * Status is "created" (with the new posting's ID), "invalid" (failed validation) or
+ * "failed" (rejected by the database).
+ */
+public class BulkIngestItemResult {
+    public static final String CREATED = "created";
+    public static final String INVALID = "invalid";
+    public static final String FAILED = "failed";
+
+    private int index; // Position of the item in the submitted array / NDJSON stream
+    private String status;
+    private String id;
+    private String message;
+
+    public BulkIngestItemResult(int index, String status, String id, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    // Getters
+    public int getIndex() {
+        return index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    // Setters (optional, typically DTOs are immutable)
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/example/job_platform/dto/JobPostingPage.java
+package com.example.job_platform.dto;
+
+import com.example.job_platform.model.JobPosting;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of a keyset-paginated job posting listing.
+ * The next cursor is null when there are no further postings.
+ */
+public class JobPostingPage {
+    private List<JobPosting> jobPostings;
+    private String nextCursor; // Opaque cursor pointing just past the last posting of this page
+
+    public JobPostingPage(List<JobPosting> jobPostings, String nextCursor) {
+        this.jobPostings = jobPostings;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<JobPosting> getJobPostings() {
+        return jobPostings;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    // Setters (optional, typically DTOs are immutable)
+    public void setJobPostings(List<JobPosting> jobPostings) {
+        this.jobPostings = jobPostings;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,36 @@
+// src/main/java/com/example/job_platform/dto/JobSearchResult.java
+package com.example.job_platform.dto;
+
+import com.example.job_platform.model.JobPosting;
+
+/**
+ * Data Transfer Object (DTO) to represent a job posting matching a full-text search,
+ * along with its BM25 relevance score.
+ */
+public class JobSearchResult {
+    private JobPosting jobPosting;
+    private double score; // BM25 relevance; only comparable within one search
+
+    public JobSearchResult(JobPosting jobPosting, double score) {
+        this.jobPosting = jobPosting;
+        this.score = score;
+    }
+
+    // Getters
+    public JobPosting getJobPosting() {
+        return jobPosting;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    // Setters (optional, typically DTOs are immutable)
+    public void setJobPosting(JobPosting jobPosting) {
+        this.jobPosting = jobPosting;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,111 @@
+// src/main/java/com/example/job_platform/model/ApplicantRecommendations.java
+package com.example.job_platform.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Model representing an applicant's materialized top recommendations in the
+ * 'applicant_recommendations' collection, written by the nightly batch run and read
+ * when sending daily match digests. One document per applicant, keyed by username.
+ */
+@Document(collection = "applicant_recommendations")
+public class ApplicantRecommendations {
+
+    @Id // The applicant's username
+    private String applicantUsername;
+    private LocalDateTime generatedAt; // When the batch run computed these recommendations
+    private List<RecommendedJob> recommendations; // Best match first
+
+    // Default constructor for Spring Data MongoDB
+    public ApplicantRecommendations() {
+    }
+
+    public ApplicantRecommendations(String applicantUsername, LocalDateTime generatedAt,
+                                    List<RecommendedJob> recommendations) {
+        this.applicantUsername = applicantUsername;
+        this.generatedAt = generatedAt;
+        this.recommendations = recommendations;
+    }
+
+    // Getters and Setters for all fields
+    public String getApplicantUsername() {
+        return applicantUsername;
+    }
+
+    public void setApplicantUsername(String applicantUsername) {
+        this.applicantUsername = applicantUsername;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public List<RecommendedJob> getRecommendations() {
+        return recommendations;
+    }
+
+    public void setRecommendations(List<RecommendedJob> recommendations) {
+        this.recommendations = recommendations;
+    }
+
+    /**
+     * One recommended job: just enough to render a digest line and link to the posting.
+     */
+    public static class RecommendedJob {
+        private String jobId;
+        private String title;
+        private String location;
+        private double matchScore;
+
+        // Default constructor for Spring Data MongoDB
+        public RecommendedJob() {
+        }
+
+        public RecommendedJob(String jobId, String title, String location, double matchScore) {
+            this.jobId = jobId;
+            this.title = title;
+            this.location = location;
+            this.matchScore = matchScore;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public void setJobId(String jobId) {
+            this.jobId = jobId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public double getMatchScore() {
+            return matchScore;
+        }
+
+        public void setMatchScore(double matchScore) {
+            this.matchScore = matchScore;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.job_platform.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -12,6 +14,13 @@ import java.util.List;
  * and information about the user who posted it.
  */
 @Document(collection = "job_postings") // Maps this class to the 'job_postings' collection
+// Keyset pagination walks (postedDate, _id) newest first; each filter gets its own prefix
+@CompoundIndexes({
+        @CompoundIndex(name = "postedDate_id", def = "{'postedDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "location_postedDate_id", def = "{'location': 1, 'postedDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "experience_postedDate_id", def = "{'experience': 1, 'postedDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "skills_postedDate_id", def = "{'skills': 1, 'postedDate': -1, '_id': -1}")
+})
 public class JobPosting {
 
     @Id // Primary identifier for the document
@@ -19,6 +28,7 @@ public class JobPosting {
     private String title;
     private String description;
     private List<String> skills; // List of required skills
+    private List<String> extractedSkills; // The entries of 'skills' found in the description rather than listed by the poster
     private String experience; // e.g., "0-2 years", "2-5 years", "5+ years"
     private String location;
     private String postedByUserId; // ID of the user who posted the job
@@ -76,6 +86,14 @@ public class JobPosting {
         this.skills = skills;
     }
 
+    public List<String> getExtractedSkills() {
+        return extractedSkills;
+    }
+
+    public void setExtractedSkills(List<String> extractedSkills) {
+        this.extractedSkills = extractedSkills;
+    }
+
     public String getExperience() {
         return experience;
     }
@@ -5,6 +5,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.util.List;
+
 /**
  * User model representing a document in the 'users' collection in MongoDB.
  * It includes basic user details like ID, username, password, a 'section'
@@ -22,6 +24,8 @@ public class User {
     private String password; // Hashed password
     private String section;  // "Post" for job posters, "Apply" for job seekers
     private String resumeGridFsId; // New field: Stores the GridFS ID of the user's resume
+    private List<String> resumeSkills; // Normalized skills of the current resume (copy of the GridFS metadata)
+    private String resumeSummary; // Summary of the current resume (copy of the GridFS metadata)
 
     // Default constructor for Spring Data MongoDB
     public User() {
@@ -75,6 +79,22 @@ public class User {
         this.resumeGridFsId = resumeGridFsId;
     }
 
+    public List<String> getResumeSkills() {
+        return resumeSkills;
+    }
+
+    public void setResumeSkills(List<String> resumeSkills) {
+        this.resumeSkills = resumeSkills;
+    }
+
+    public String getResumeSummary() {
+        return resumeSummary;
+    }
+
+    public void setResumeSummary(String resumeSummary) {
+        this.resumeSummary = resumeSummary;
+    }
+
     @Override
     public String toString() {
         return "User{" +
@@ -0,0 +1,22 @@
+package com.example.job_platform.repository;
+
+import com.example.job_platform.model.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository interface for User documents, used by the non-blocking endpoints.
+ * Shares the 'users' collection with {@link UserRepository}.
+ */
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+
+    /**
+     * Finds a user by their username without blocking the calling thread.
+     *
+     * @param username The username to search for.
+     * @return A Mono emitting the found User, or completing empty if not found.
+     */
+    Mono<User> findByUsername(String username);
+}
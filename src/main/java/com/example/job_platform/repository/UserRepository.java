@@ -22,4 +22,12 @@ public interface UserRepository extends MongoRepository<User, String> {
      * @return An Optional containing the found User, or empty if not found.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Checks whether a user with the given username exists, without loading the document.
+     *
+     * @param username The username to check.
+     * @return true if a user with this username exists.
+     */
+    boolean existsByUsername(String username);
 }
\ No newline at end of file
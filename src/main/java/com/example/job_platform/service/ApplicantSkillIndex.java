@@ -0,0 +1,352 @@
+// src/main/java/com/example/job_platform/service/ApplicantSkillIndex.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.ApplicantMatch;
+import com.example.job_platform.model.User;
+import com.example.job_platform.util.TopKHeap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index from skill ID to the applicants whose resume lists it: the reverse of
+ * {@link JobSkillIndex}, used to find the best candidates for a job posting.
+ * Each applicant with a resume occupies a dense int slot and keeps its resume skills as a sorted
+ * {@link SkillDictionary} ID array, so ranking only touches applicants sharing at least one skill
+ * with the job, and scores them exactly as their recommendations would score the job.
+ * Resume skills are client-supplied, so they never register new dictionary IDs: a skill no posting
+ * has registered yet waits in a side map (canonical name -> applicant slots) and moves into the
+ * ID posting lists once a posting registers it. Only plausible skill names
+ * ({@link SkillExtractor#isDictionarySkill}) wait, at most {@link #MAX_PENDING_SKILLS} per applicant,
+ * and an applicant's waiting skills are dropped when the profile is replaced.
+ * The index is built from the users' denormalized resume profiles once the application is ready
+ * and kept current by {@link ResumeService} and {@link ResumeExtractionService}.
+ */
+@Component
+public class ApplicantSkillIndex {
+
+    // Skills of one applicant that may wait in the side map for a posting to register them
+    static final int MAX_PENDING_SKILLS = 50;
+
+    private final MongoTemplate mongoTemplate;
+    private final SkillDictionary skillDictionary;
+    private final JobSkillIndex jobSkillIndex; // Owns the score definition (and the IDF table)
+
+    // Guards every array below; rankings take the read lock, updates take the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Slot -> applicant and slot -> its sorted skill IDs
+    private IndexedApplicant[] applicants = new IndexedApplicant[1024];
+    private int[][] skillIdsBySlot = new int[1024][];
+    private int applicantCount;
+    private final Map<String, Integer> slotsByUsername = new HashMap<>();
+
+    // Skill ID -> slots of the applicants listing it (first slotCountsBySkill[id] entries are used)
+    private int[][] slotsBySkill = new int[256][];
+    private int[] slotCountsBySkill = new int[256];
+
+    // Canonical skill without an ID yet -> slots of the applicants listing it, and slot -> those skills
+    private final Map<String, Set<Integer>> pendingSlotsBySkill = new HashMap<>();
+    private String[][] pendingSkillsBySlot = new String[1024][];
+    // Dictionary size up to which registered skills have been moved out of the side map; written under the write lock
+    private volatile int resolvedDictionarySize;
+
+    @Autowired
+    public ApplicantSkillIndex(MongoTemplate mongoTemplate, SkillDictionary skillDictionary, JobSkillIndex jobSkillIndex) {
+        this.mongoTemplate = mongoTemplate;
+        this.skillDictionary = skillDictionary;
+        this.jobSkillIndex = jobSkillIndex;
+    }
+
+    /**
+     * Loads every "Apply" user with a resume profile into the index once the application has started.
+     * Users are streamed from a Mongo cursor with only the profile fields projected.
+     * Uploads and extractions finishing during the build are indexed by {@link #put} first; the
+     * cursor may have read such a user before that write, so rows for applicants already in the
+     * index are skipped rather than overwriting the newer entry with a stale resume ID or skills.
+     * Users whose profile is backfilled later are added by {@link ResumeProfileBackfill}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Sections are stored as sent at signup, in any case (see UserService.signup)
+        Query query = new Query(Criteria.where("section").regex("^apply$", "i").and("resumeSkills").exists(true));
+        query.fields().include("username").include("resumeGridFsId").include("resumeSkills");
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.forEach(user -> put(user.getUsername(), user.getResumeGridFsId(), user.getResumeSkills(), false));
+            System.out.println("Applicant skill index built with " + size() + " applicants.");
+        } catch (Exception e) {
+            System.err.println("Error building applicant skill index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds or replaces an applicant's resume profile.
+     *
+     * @param username The applicant's username.
+     * @param resumeGridFsId The GridFS ID of the applicant's current resume.
+     * @param resumeSkills The normalized resume skills; null or empty removes the applicant from
+     *                     every posting list.
+     */
+    public void put(String username, String resumeGridFsId, List<String> resumeSkills) {
+        put(username, resumeGridFsId, resumeSkills, true);
+    }
+
+    /**
+     * @param replace Whether an applicant already in the index is replaced (live updates) or kept
+     *                (the startup build, whose rows may predate it).
+     */
+    private void put(String username, String resumeGridFsId, List<String> resumeSkills, boolean replace) {
+        if (username == null) {
+            return;
+        }
+        IndexedApplicant applicant = new IndexedApplicant(username, resumeGridFsId,
+                resumeSkills == null ? List.of() : List.copyOf(resumeSkills));
+
+        lock.writeLock().lock();
+        try {
+            // First, so every skill registered before the lookups below is known to have been moved
+            resolvePendingSkills();
+            Integer existingSlot = slotsByUsername.get(username);
+            int slot;
+            if (existingSlot != null) {
+                if (!replace) {
+                    return;
+                }
+                slot = existingSlot;
+                for (int skillId : skillIdsBySlot[slot]) {
+                    removeFromPostingList(skillId, slot);
+                }
+                for (String skill : pendingSkillsBySlot[slot]) {
+                    removePending(skill, slot);
+                }
+            } else {
+                slot = applicantCount++;
+                if (slot == applicants.length) {
+                    applicants = Arrays.copyOf(applicants, slot * 2);
+                    skillIdsBySlot = Arrays.copyOf(skillIdsBySlot, slot * 2);
+                    pendingSkillsBySlot = Arrays.copyOf(pendingSkillsBySlot, slot * 2);
+                }
+                slotsByUsername.put(username, slot);
+            }
+
+            int[] skillIds = skillDictionary.toSortedIds(resumeSkills, false);
+            List<String> pendingSkills = new ArrayList<>();
+            if (resumeSkills != null) {
+                for (String skill : SkillDictionary.normalizeSkills(resumeSkills)) {
+                    if (pendingSkills.size() < MAX_PENDING_SKILLS && skillDictionary.lookup(skill) < 0
+                            && SkillExtractor.isDictionarySkill(skill)) {
+                        pendingSkills.add(skill);
+                        pendingSlotsBySkill.computeIfAbsent(skill, key -> new HashSet<>()).add(slot);
+                    }
+                }
+            }
+            applicants[slot] = applicant;
+            skillIdsBySlot[slot] = skillIds;
+            pendingSkillsBySlot[slot] = pendingSkills.toArray(new String[0]);
+            for (int skillId : skillIds) {
+                appendToPostingList(skillId, slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the indexed applicants against a job's skills and returns one page of the ranking.
+     * The score is the applicant's match score for the job as defined by
+     * {@link JobSkillIndex#scorer(int[], ScoringMode)}, with the job's IDF weights read once per
+     * ranking; applicants without a common skill are never visited. Only the best
+     * {@code offset + limit} are kept while scoring.
+     *
+     * @param jobSkills The job's required skills.
+     * @param offset The number of top-ranked applicants to skip.
+     * @param limit The maximum number of applicants to return.
+     * @param mode How skills are weighted.
+     * @return The requested page of applicants, best match first.
+     */
+    public List<ApplicantMatch> topApplicants(List<String> jobSkills, int offset, int limit, ScoringMode mode) {
+        int[] jobSkillIds = skillDictionary.toSortedIds(jobSkills, false);
+        if (jobSkillIds.length == 0 || limit <= 0 || offset < 0) {
+            return new ArrayList<>();
+        }
+        TopKHeap topApplicants = new TopKHeap((int) Math.min((long) offset + limit, Integer.MAX_VALUE));
+        if (skillDictionary.size() != resolvedDictionarySize) {
+            // A posting registered new skills, possibly this job's: applicants may be waiting for them
+            lock.writeLock().lock();
+            try {
+                resolvePendingSkills();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        JobSkillIndex.JobScorer scorer = jobSkillIndex.scorer(jobSkillIds, mode); // Before our lock: never nested
+
+        lock.readLock().lock();
+        try {
+            BitSet visited = new BitSet(applicantCount);
+            for (int skillId : jobSkillIds) {
+                if (skillId >= slotCountsBySkill.length) {
+                    continue; // No applicant lists this skill
+                }
+                int[] slots = slotsBySkill[skillId];
+                int count = slotCountsBySkill[skillId];
+                for (int i = 0; i < count; i++) {
+                    int slot = slots[i];
+                    if (visited.get(slot)) {
+                        continue;
+                    }
+                    visited.set(slot);
+                    double matchScore = scorer.score(skillIdsBySlot[slot]);
+                    if (matchScore > 0) {
+                        topApplicants.offer(slot, matchScore);
+                    }
+                }
+            }
+
+            int kept = topApplicants.sortDescending();
+            List<ApplicantMatch> page = new ArrayList<>(Math.max(0, kept - offset));
+            for (int i = offset; i < kept; i++) {
+                IndexedApplicant applicant = applicants[topApplicants.id(i)];
+                page.add(new ApplicantMatch(applicant.username(), applicant.resumeSkills(), topApplicants.score(i)));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of applicants currently indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return applicantCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Indexed applicants, skills listed by at least one of them, and total posting list entries.
+     */
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            int skills = 0;
+            long entries = 0;
+            for (int count : slotCountsBySkill) {
+                if (count > 0) {
+                    skills++;
+                    entries += count;
+                }
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("applicants", applicantCount);
+            stats.put("skills", skills);
+            stats.put("postingEntries", entries);
+            stats.put("pendingSkills", pendingSlotsBySkill.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the waiting skills that postings have registered since the last call into the ID posting
+     * lists. Only the newly registered IDs are visited, so the cost is independent of the side map's size.
+     * Caller holds the write lock.
+     */
+    private void resolvePendingSkills() {
+        int dictionarySize = skillDictionary.size();
+        if (!pendingSlotsBySkill.isEmpty()) {
+            for (int skillId = resolvedDictionarySize; skillId < dictionarySize; skillId++) {
+                String skill = skillDictionary.skillOf(skillId);
+                Set<Integer> slots = pendingSlotsBySkill.remove(skill);
+                if (slots == null) {
+                    continue;
+                }
+                for (int slot : slots) {
+                    skillIdsBySlot[slot] = withId(skillIdsBySlot[slot], skillId);
+                    appendToPostingList(skillId, slot);
+                    pendingSkillsBySlot[slot] = Arrays.stream(pendingSkillsBySlot[slot])
+                            .filter(pending -> !pending.equals(skill))
+                            .toArray(String[]::new);
+                }
+            }
+        }
+        resolvedDictionarySize = dictionarySize;
+    }
+
+    private void removePending(String skill, int slot) {
+        Set<Integer> slots = pendingSlotsBySkill.get(skill);
+        if (slots != null && slots.remove(slot) && slots.isEmpty()) {
+            pendingSlotsBySkill.remove(skill);
+        }
+    }
+
+    /**
+     * @return A copy of sorted {@code skillIds} with {@code skillId} inserted in order.
+     */
+    private static int[] withId(int[] skillIds, int skillId) {
+        int position = Arrays.binarySearch(skillIds, skillId);
+        if (position >= 0) {
+            return skillIds;
+        }
+        int insertion = -position - 1;
+        int[] grown = new int[skillIds.length + 1];
+        System.arraycopy(skillIds, 0, grown, 0, insertion);
+        grown[insertion] = skillId;
+        System.arraycopy(skillIds, insertion, grown, insertion + 1, skillIds.length - insertion);
+        return grown;
+    }
+
+    private void appendToPostingList(int skillId, int slot) {
+        if (skillId >= slotsBySkill.length) {
+            int grown = Math.max(slotsBySkill.length * 2, skillId + 1);
+            slotsBySkill = Arrays.copyOf(slotsBySkill, grown);
+            slotCountsBySkill = Arrays.copyOf(slotCountsBySkill, grown);
+        }
+        int[] slots = slotsBySkill[skillId];
+        int count = slotCountsBySkill[skillId];
+        if (slots == null) {
+            slots = new int[4];
+        } else if (count == slots.length) {
+            slots = Arrays.copyOf(slots, count * 2);
+        }
+        slots[count] = slot;
+        slotsBySkill[skillId] = slots;
+        slotCountsBySkill[skillId] = count + 1;
+    }
+
+    private void removeFromPostingList(int skillId, int slot) {
+        int[] slots = slotsBySkill[skillId];
+        int count = slotCountsBySkill[skillId];
+        for (int i = 0; i < count; i++) {
+            if (slots[i] == slot) {
+                slots[i] = slots[count - 1]; // Order within a posting list does not matter
+                slotCountsBySkill[skillId] = count - 1;
+                return;
+            }
+        }
+    }
+
+    private record IndexedApplicant(String username, String resumeGridFsId, List<String> resumeSkills) {
+    }
+}
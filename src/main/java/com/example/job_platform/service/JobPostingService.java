@@ -1,14 +1,39 @@
 // src/main/java/com/example/job_platform/service/JobPostingService.java
 package com.example.job_platform.service;
 
+import com.example.job_platform.dto.ApplicantMatch;
+import com.example.job_platform.dto.AuthenticatedUser;
+import com.example.job_platform.dto.BulkIngestItemResult;
+import com.example.job_platform.dto.JobPostingPage;
+import com.example.job_platform.dto.JobSearchResult;
 import com.example.job_platform.model.JobPosting;
 import com.example.job_platform.model.User;
 import com.example.job_platform.repository.JobPostingRepository;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing job postings.
@@ -19,12 +44,67 @@ import java.util.Optional;
 public class JobPostingService {
 
     private final JobPostingRepository jobPostingRepository;
+    private final MongoTemplate mongoTemplate; // For keyset-paginated, filtered listing queries
     private final UserService userService; // To fetch user details for authorization
+    private final JobSkillIndex jobSkillIndex; // Kept current so recommendations see new postings
+    private final JobSearchIndex jobSearchIndex; // Kept current so full-text search sees new postings
+    private final SkillExtractor skillExtractor; // Adds skills named in descriptions
+    private final RecommendationCache recommendationCache; // Patched with every new posting
+    private final ApplicantSkillIndex applicantSkillIndex; // Reverse index for ranking applicants per job
+    private final ScoringMode defaultScoringMode; // Same default as applicant recommendations
+
+    private final int bulkBatchSize; // Postings per unordered bulk insert
+
+    // Documents fetched per cursor round trip when exporting
+    private static final int EXPORT_CURSOR_BATCH_SIZE = 500;
+    // Documents fetched per cursor round trip when building the in-memory indexes
+    private static final int INDEX_CURSOR_BATCH_SIZE = 1000;
 
     @Autowired
-    public JobPostingService(JobPostingRepository jobPostingRepository, UserService userService) {
+    public JobPostingService(JobPostingRepository jobPostingRepository, MongoTemplate mongoTemplate,
+                             UserService userService, JobSkillIndex jobSkillIndex,
+                             JobSearchIndex jobSearchIndex, SkillExtractor skillExtractor,
+                             RecommendationCache recommendationCache, ApplicantSkillIndex applicantSkillIndex,
+                             @Value("${jobs.bulk.batch-size:1000}") int bulkBatchSize,
+                             ScoringMode defaultScoringMode) {
         this.jobPostingRepository = jobPostingRepository;
+        this.mongoTemplate = mongoTemplate;
         this.userService = userService;
+        this.jobSkillIndex = jobSkillIndex;
+        this.jobSearchIndex = jobSearchIndex;
+        this.skillExtractor = skillExtractor;
+        this.recommendationCache = recommendationCache;
+        this.applicantSkillIndex = applicantSkillIndex;
+        this.bulkBatchSize = bulkBatchSize;
+        this.defaultScoringMode = defaultScoringMode;
+    }
+
+    /**
+     * Loads every existing job posting into the skill and search indexes once the application has
+     * started. Postings are streamed from one Mongo cursor and shared by both indexes, so the
+     * collection is read once and never held as a list. Postings saved while this runs are indexed
+     * by {@link #indexJob(JobPosting)} as well, which replaces any earlier entry, so nothing is lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexes() {
+        Query query = new Query();
+        query.cursorBatchSize(INDEX_CURSOR_BATCH_SIZE);
+        try (Stream<JobPosting> allJobs = mongoTemplate.stream(query, JobPosting.class)) {
+            allJobs.forEach(this::indexJob);
+            System.out.println("Job indexes built with " + jobSkillIndex.size() + " postings and "
+                    + jobSearchIndex.size() + " searchable postings.");
+        } catch (Exception e) {
+            System.err.println("Error building job indexes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds a saved posting to both indexes. The skill index goes first: it holds the postings
+     * that search hits are resolved from.
+     */
+    private void indexJob(JobPosting job) {
+        jobSkillIndex.add(job);
+        jobSearchIndex.add(job);
     }
 
     /**
@@ -50,20 +130,197 @@ public class JobPostingService {
             return Optional.empty(); // User not found
         }
 
-        User poster = posterOptional.get();
+        return createJobPosting(title, description, skills, experience, location,
+                AuthenticatedUser.of(posterOptional.get()));
+    }
 
+    /**
+     * Creates a new job posting for an already authenticated poster, without loading the user.
+     * Known skills named in the description are added to the poster's skills (see {@link SkillExtractor}).
+     *
+     * @param title The title of the job.
+     * @param description The detailed description of the job.
+     * @param skills A list of required skills.
+     * @param experience The required experience level.
+     * @param location The job location.
+     * @param poster The poster, e.g. from the request's JWT.
+     * @return The created JobPosting object if successful, or Optional.empty() if
+     * the poster does not have the "Post" section.
+     */
+    public Optional<JobPosting> createJobPosting(String title, String description, List<String> skills,
+                                                 String experience, String location, AuthenticatedUser poster) {
         // Check if the user has the "Post" section
-        if (!"Post".equalsIgnoreCase(poster.getSection())) {
-            System.err.println("Job posting failed: User " + posterUsername + " is not authorized to post jobs (Section: " + poster.getSection() + ").");
+        if (!poster.isPoster()) {
+            System.err.println("Job posting failed: User " + poster.getUsername() + " is not authorized to post jobs (Section: " + poster.getSection() + ").");
             return Optional.empty(); // User not authorized
         }
 
-        JobPosting newJob = new JobPosting(
-                title, description, skills, experience, location,
-                poster.getId(), poster.getUsername()
-        );
+        JobPosting newJob = newJobPosting(title, description, skills, experience, location, poster);
+
+        JobPosting savedJob = jobPostingRepository.save(newJob);
+        indexJob(savedJob);
+        recommendationCache.onJobPosted(savedJob);
+        return Optional.of(savedJob);
+    }
+
+    /**
+     * Ingests many job postings for one poster using unordered Mongo bulk inserts.
+     * The poster is looked up and authorized once; items are validated individually and inserted
+     * in batches of {@code jobs.bulk.batch-size}, with skills extracted from each description as
+     * for single postings. Items are consumed lazily, so an NDJSON stream
+     * is never held in memory as a whole. If the iterator fails (a malformed NDJSON line), the
+     * pending batch is still inserted, the failing item is reported as invalid at its index, and
+     * ingestion stops there: the results tell the client exactly which items were created.
+     *
+     * @param posterUsername The username of the user posting the jobs.
+     * @param items The job items, each a map with 'title', 'description', 'skills' (List),
+     *              'experience' and 'location'.
+     * @return One result per item in input order, or Optional.empty() if the poster is not found
+     * or not authorized.
+     */
+    public Optional<List<BulkIngestItemResult>> ingestJobPostings(String posterUsername,
+                                                                  Iterator<Map<String, Object>> items) {
+        Optional<User> posterOptional = userService.findByUsername(posterUsername);
+        if (posterOptional.isEmpty()) {
+            System.err.println("Bulk job posting failed: User " + posterUsername + " not found.");
+            return Optional.empty();
+        }
+        return ingestJobPostings(AuthenticatedUser.of(posterOptional.get()), items);
+    }
+
+    /**
+     * Ingests many job postings for an already authenticated poster, without loading the user.
+     *
+     * @param poster The poster, e.g. from the request's JWT.
+     * @param items The job items, as for {@link #ingestJobPostings(String, Iterator)}.
+     * @return One result per item in input order, or Optional.empty() if the poster does not have
+     * the "Post" section.
+     */
+    public Optional<List<BulkIngestItemResult>> ingestJobPostings(AuthenticatedUser poster,
+                                                                  Iterator<Map<String, Object>> items) {
+        if (!poster.isPoster()) {
+            System.err.println("Bulk job posting failed: User " + poster.getUsername() + " is not authorized to post jobs.");
+            return Optional.empty();
+        }
+
+        List<BulkIngestItemResult> results = new ArrayList<>();
+        List<JobPosting> batch = new ArrayList<>(bulkBatchSize);
+        List<BulkIngestItemResult> batchResults = new ArrayList<>(bulkBatchSize);
+        int index = 0;
+        while (true) {
+            Map<String, Object> item;
+            try {
+                if (!items.hasNext()) {
+                    break;
+                }
+                item = items.next();
+            } catch (RuntimeException e) {
+                // E.g. Jackson's RuntimeJsonMappingException; the stream cannot be resynchronized
+                results.add(new BulkIngestItemResult(index, BulkIngestItemResult.INVALID, null,
+                        "Malformed item, ingestion stopped here (later items were not read): " + e.getMessage()));
+                System.err.println("Bulk ingestion for " + poster.getUsername() + " stopped at malformed item " + index);
+                break;
+            }
+            String error = validateJobItem(item);
+            if (error != null) {
+                results.add(new BulkIngestItemResult(index++, BulkIngestItemResult.INVALID, null, error));
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<String> skills = (List<String>) item.get("skills");
+            String description = (String) item.get("description");
+            JobPosting job = newJobPosting((String) item.get("title"), description, skills,
+                    (String) item.get("experience"), (String) item.get("location"), poster);
+            job.setId(new ObjectId().toHexString()); // Assigned up front so each result can report its ID
+            BulkIngestItemResult result = new BulkIngestItemResult(index++, BulkIngestItemResult.CREATED, job.getId(), null);
+            results.add(result);
+            batch.add(job);
+            batchResults.add(result);
+
+            if (batch.size() == bulkBatchSize) {
+                insertBatch(batch, batchResults);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch, batchResults);
+        }
+
+        System.out.println("Bulk ingestion for " + poster.getUsername() + ": " + results.size() + " items processed.");
+        return Optional.of(results);
+    }
+
+    /**
+     * Inserts one batch with an unordered bulk write, marks the items the database rejected as
+     * failed, indexes the rest, and clears the batch lists.
+     */
+    private void insertBatch(List<JobPosting> batch, List<BulkIngestItemResult> batchResults) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobPosting.class)
+                    .insert(batch)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // Unordered: everything not listed in the errors was inserted
+            for (BulkWriteError error : e.getErrors()) {
+                BulkIngestItemResult result = batchResults.get(error.getIndex());
+                result.setStatus(BulkIngestItemResult.FAILED);
+                result.setId(null);
+                result.setMessage(error.getMessage());
+            }
+        } catch (DataAccessException e) {
+            System.err.println("Bulk insert of " + batch.size() + " job postings failed: " + e.getMessage());
+            for (BulkIngestItemResult result : batchResults) {
+                result.setStatus(BulkIngestItemResult.FAILED);
+                result.setId(null);
+                result.setMessage("Database write failed.");
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (BulkIngestItemResult.CREATED.equals(batchResults.get(i).getStatus())) {
+                indexJob(batch.get(i));
+            }
+        }
+        // Patching every cached ranking per posting does not pay off at bulk volumes
+        recommendationCache.invalidateAll();
+
+        batch.clear();
+        batchResults.clear();
+    }
+
+    /**
+     * Builds a new posting whose skills are the poster's plus those extracted from the description,
+     * recording the extracted ones separately so the extraction dictionary is built from
+     * poster-listed skills only (see {@link JobSkillIndex#listedCountsBySkill()}).
+     */
+    private JobPosting newJobPosting(String title, String description, List<String> skills,
+                                     String experience, String location, AuthenticatedUser poster) {
+        List<String> merged = skillExtractor.mergeExtractedSkills(skills, description);
+        JobPosting job = new JobPosting(title, description, merged, experience, location,
+                poster.getUserId(), poster.getUsername());
+        int listed = skills == null ? 0 : skills.size(); // Extracted skills are appended after the poster's
+        job.setExtractedSkills(new ArrayList<>(merged.subList(listed, merged.size())));
+        return job;
+    }
 
-        return Optional.of(jobPostingRepository.save(newJob));
+    /**
+     * Applies the same required-field rules as POST /api/jobs to one bulk item.
+     *
+     * @return An error message, or null if the item is valid.
+     */
+    private static String validateJobItem(Map<String, Object> item) {
+        if (item == null) {
+            return "Item must be a JSON object.";
+        }
+        for (String field : new String[]{"title", "description", "experience", "location"}) {
+            if (!(item.get(field) instanceof String value) || value.isEmpty()) {
+                return "Field '" + field + "' is required.";
+            }
+        }
+        if (!(item.get("skills") instanceof List<?> skills) || !skills.stream().allMatch(String.class::isInstance)) {
+            return "Field 'skills' must be a list of strings.";
+        }
+        return null;
     }
 
     /**
@@ -74,5 +331,160 @@ public class JobPostingService {
         return jobPostingRepository.findAll();
     }
 
+    /**
+     * Full-text search over job titles and descriptions, ranked by BM25 relevance.
+     * Served entirely from the in-memory {@link JobSearchIndex}; the database is not queried.
+     *
+     * @param query The query terms; double-quoted parts must match as phrases.
+     * @param location Optional location filter.
+     * @param skills Optional skills every returned posting must list.
+     * @param offset The number of top-ranked hits to skip.
+     * @param limit The maximum number of hits to return.
+     * @return One page of matching postings with their scores, best match first.
+     */
+    public List<JobSearchResult> searchJobPostings(String query, String location, List<String> skills,
+                                                   int offset, int limit) {
+        return jobSearchIndex.search(query, location, skills, offset, limit);
+    }
+
+    /**
+     * Retrieves a job posting from the in-memory {@link JobSkillIndex}, without a database read.
+     *
+     * @param jobId The job posting ID.
+     * @return The job posting, or Optional.empty() if no such posting exists.
+     */
+    public Optional<JobPosting> getJobPosting(String jobId) {
+        return jobSkillIndex.get(jobId);
+    }
+
+    /**
+     * Ranks the applicants with a resume against a job posting's skills, best match first.
+     * Served from the in-memory {@link ApplicantSkillIndex}: only applicants sharing a skill with
+     * the job are scored, and neither users nor resumes are read from the database.
+     * An applicant's score is the one the job gets among that applicant's recommendations.
+     *
+     * @param job The job posting; the caller is responsible for checking it belongs to the poster.
+     * @param limit The maximum number of applicants to return.
+     * @param offset The number of top-ranked applicants to skip.
+     * @param mode How skills are weighted.
+     * @return One page of matching applicants with their match scores.
+     */
+    public List<ApplicantMatch> getTopApplicants(JobPosting job, int limit, int offset, ScoringMode mode) {
+        return applicantSkillIndex.topApplicants(job.getSkills(), offset, limit, mode);
+    }
+
+    /**
+     * @return The scoring mode used when a request does not choose one.
+     */
+    public ScoringMode getDefaultScoringMode() {
+        return defaultScoringMode;
+    }
+
+    /**
+     * Retrieves one page of job postings, newest first, using keyset pagination on (postedDate, _id).
+     * Each page is a single indexed range scan (see the indexes declared on {@link JobPosting}),
+     * so its cost does not grow with the collection or with how deep the client has paged.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param limit The maximum number of postings to return.
+     * @param location Optional exact location filter.
+     * @param experience Optional exact experience filter.
+     * @param skill Optional skill filter; matches the skill as given or in its normalized form.
+     * @param includeDescription Whether to include the (potentially long) job descriptions.
+     * @return The page, with a cursor for the next page if more postings follow.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public JobPostingPage getJobPostingsPage(String cursor, int limit, String location, String experience,
+                                             String skill, boolean includeDescription) {
+        List<Criteria> filters = listingFilters(location, experience, skill);
+        if (cursor != null && !cursor.isEmpty()) {
+            // Strictly after the last posting of the previous page in (postedDate desc, _id desc) order
+            PageCursor after = PageCursor.decode(cursor);
+            filters.add(new Criteria().orOperator(
+                    Criteria.where("postedDate").lt(after.postedDate()),
+                    Criteria.where("postedDate").is(after.postedDate()).and("_id").lt(after.id())
+            ));
+        }
+
+        Query query = filters.isEmpty() ? new Query() : new Query(new Criteria().andOperator(filters));
+        query.with(Sort.by(Sort.Direction.DESC, "postedDate", "_id"));
+        query.limit(limit + 1); // One extra posting tells us whether another page exists
+        if (!includeDescription) {
+            query.fields().exclude("description");
+        }
+
+        List<JobPosting> jobPostings = mongoTemplate.find(query, JobPosting.class);
+        String nextCursor = null;
+        if (jobPostings.size() > limit) {
+            jobPostings = new ArrayList<>(jobPostings.subList(0, limit));
+            JobPosting last = jobPostings.get(limit - 1);
+            nextCursor = PageCursor.encode(last.getPostedDate(), last.getId());
+        }
+        return new JobPostingPage(jobPostings, nextCursor);
+    }
+
+    /**
+     * Builds the optional listing filters shared by the paged and the reactive job listings.
+     *
+     * @param location Optional exact location filter.
+     * @param experience Optional exact experience filter.
+     * @param skill Optional skill filter; matches the skill as given or in its normalized form.
+     * @return The criteria to AND together; empty if no filter is set.
+     */
+    static List<Criteria> listingFilters(String location, String experience, String skill) {
+        List<Criteria> filters = new ArrayList<>();
+        if (location != null && !location.isEmpty()) {
+            filters.add(Criteria.where("location").is(location));
+        }
+        if (experience != null && !experience.isEmpty()) {
+            filters.add(Criteria.where("experience").is(experience));
+        }
+        if (skill != null && !skill.isEmpty()) {
+            String normalizedSkill = SkillDictionary.normalize(skill);
+            filters.add(Criteria.where("skills").in(skill, normalizedSkill));
+        }
+        return filters;
+    }
+
+    /**
+     * Streams job postings from a Mongo cursor, oldest first, for bulk export.
+     * Postings are fetched in cursor batches, so memory use does not depend on the collection size.
+     * The caller must close the returned stream (it holds an open server-side cursor).
+     *
+     * @param since Optional lower bound (inclusive) on postedDate for incremental pulls; null for all.
+     * @return A lazily populated stream of job postings ordered by (postedDate, _id).
+     */
+    public Stream<JobPosting> streamJobPostings(LocalDateTime since) {
+        Query query = since != null ? new Query(Criteria.where("postedDate").gte(since)) : new Query();
+        query.with(Sort.by(Sort.Direction.ASC, "postedDate", "_id"));
+        query.cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, JobPosting.class);
+    }
+
+    /**
+     * Position of the last posting on a page, encoded as an opaque URL-safe string.
+     */
+    private record PageCursor(LocalDateTime postedDate, ObjectId id) {
+
+        private static String encode(LocalDateTime postedDate, String id) {
+            String raw = postedDate + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static PageCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+                return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        new ObjectId(raw.substring(separator + 1)));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+    }
+
     // You can add more methods here, e.g., getJobById, updateJobPosting, deleteJobPosting
 }
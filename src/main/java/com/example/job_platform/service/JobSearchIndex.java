@@ -0,0 +1,601 @@
+// src/main/java/com/example/job_platform/service/JobSearchIndex.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobSearchResult;
+import com.example.job_platform.model.JobPosting;
+import com.example.job_platform.util.TopKHeap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory full-text index over job posting titles and descriptions, ranked with BM25.
+ * Each indexed posting occupies a dense int slot; every term keeps a posting list of the slots
+ * containing it (ascending, since slots are only ever appended) together with the term frequency
+ * and the varint-encoded token positions needed for phrase queries.
+ * A query is the conjunction of its terms: the rarest term's posting list drives the search and
+ * the other lists are advanced by galloping search, so the cost follows the rarest term rather
+ * than the collection size. Only the best {@code offset + limit} hits are kept while scoring.
+ * A slot keeps only what searching needs (posting ID, location, length, skill IDs); the postings
+ * returned are looked up in {@link JobSkillIndex}, so the corpus is held in memory once.
+ * Re-indexing a posting masks its old slot; once masked slots outnumber live ones (and exceed
+ * {@link #COMPACTION_MIN_REPLACED}) the posting lists are compacted, so replaced slots cost at most
+ * as much memory as the live index.
+ * The index is built by {@link JobPostingService#rebuildIndexes()} once the application is ready
+ * and kept current by {@link JobPostingService} whenever a posting is saved.
+ */
+@Component
+public class JobSearchIndex {
+
+    // BM25 parameters (the usual defaults)
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    // A title occurrence counts like this many description occurrences
+    static final int TITLE_BOOST = 2;
+    // Lower bound for a term's IDF: df still counts replaced slots, which would otherwise drive it negative
+    static final double MIN_IDF = 1e-3;
+    // Queries with more distinct terms than this are truncated
+    static final int MAX_QUERY_TERMS = 32;
+    // Replaced slots are compacted away once there are more of them than this and than live slots
+    static final int COMPACTION_MIN_REPLACED = 1024;
+
+    private final JobSkillIndex jobSkillIndex; // Holds the postings; this index only holds their IDs
+    private final SkillDictionary skillDictionary;
+    private final Timer searchTimer;
+
+    // Guards every field below; searches take the read lock, indexing takes the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Slot -> posting ID, location (for the filter), BM25 length (weighted token count) and sorted skill IDs
+    private String[] postingIdsBySlot = new String[1024];
+    private String[] locationsBySlot = new String[1024];
+    private int[] lengthsBySlot = new int[1024];
+    private int[][] skillIdsBySlot = new int[1024][];
+    private int slotCount;
+    private final Map<String, Integer> slotsByPostingId = new HashMap<>();
+    // Slots superseded by a re-indexed version of the same posting; skipped by searches
+    private final BitSet replacedSlots = new BitSet();
+    private int liveCount;
+    private long totalLength;
+
+    private final Map<String, TermPostings> postingsByTerm = new HashMap<>();
+
+    @Autowired
+    public JobSearchIndex(JobSkillIndex jobSkillIndex, SkillDictionary skillDictionary, MeterRegistry meterRegistry) {
+        this.jobSkillIndex = jobSkillIndex;
+        this.skillDictionary = skillDictionary;
+        this.searchTimer = Timer.builder("jobs.search")
+                .description("Time to evaluate a full-text job search against the in-memory index")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds a saved job posting to the index, replacing any previous entry with the same ID.
+     * Tokenization happens before the write lock is taken. Add the posting to {@link JobSkillIndex}
+     * first: search results are read from there.
+     *
+     * @param job The persisted job posting (must have an ID).
+     */
+    public void add(JobPosting job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        Map<String, Occurrences> terms = analyze(job);
+        int length = 0;
+        for (Occurrences occurrences : terms.values()) {
+            length += occurrences.frequency;
+        }
+        int[] skillIds = skillDictionary.toSortedIds(job.getSkills(), true);
+
+        lock.writeLock().lock();
+        try {
+            Integer previousSlot = slotsByPostingId.get(job.getId());
+            if (previousSlot != null) {
+                // Posting lists are append-only; the old slot is only masked out (and its df kept, as in Lucene)
+                replacedSlots.set(previousSlot);
+                liveCount--;
+                totalLength -= lengthsBySlot[previousSlot];
+                postingIdsBySlot[previousSlot] = null;
+                locationsBySlot[previousSlot] = null;
+                skillIdsBySlot[previousSlot] = null;
+            }
+
+            int slot = slotCount++;
+            if (slot == postingIdsBySlot.length) {
+                postingIdsBySlot = Arrays.copyOf(postingIdsBySlot, slot * 2);
+                locationsBySlot = Arrays.copyOf(locationsBySlot, slot * 2);
+                lengthsBySlot = Arrays.copyOf(lengthsBySlot, slot * 2);
+                skillIdsBySlot = Arrays.copyOf(skillIdsBySlot, slot * 2);
+            }
+            postingIdsBySlot[slot] = job.getId();
+            locationsBySlot[slot] = job.getLocation();
+            lengthsBySlot[slot] = length;
+            skillIdsBySlot[slot] = skillIds;
+            slotsByPostingId.put(job.getId(), slot);
+            liveCount++;
+            totalLength += length;
+
+            for (Map.Entry<String, Occurrences> entry : terms.entrySet()) {
+                postingsByTerm.computeIfAbsent(entry.getKey(), term -> new TermPostings())
+                        .append(slot, entry.getValue());
+            }
+
+            int replaced = slotCount - liveCount;
+            if (replaced > COMPACTION_MIN_REPLACED && replaced > liveCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the indexed postings and returns one page of the BM25 ranking.
+     * Every term of the query must occur in the title or description. Double-quoted parts are
+     * phrases whose terms must additionally occur next to each other, in order, within one field.
+     *
+     * @param query The query, e.g. {@code backend "spring boot"}. Matching is case-insensitive.
+     * @param location Optional location filter (case-insensitive exact match).
+     * @param skills Optional required skills; postings must list all of them.
+     * @param offset The number of top-ranked hits to skip.
+     * @param limit The maximum number of hits to return.
+     * @return The requested page of hits, best match first; empty if nothing matches.
+     */
+    public List<JobSearchResult> search(String query, String location, List<String> skills, int offset, int limit) {
+        ParsedQuery parsed = parse(query);
+        if (parsed.terms().isEmpty() || limit <= 0 || offset < 0) {
+            return new ArrayList<>();
+        }
+        String locationFilter = location == null || location.isBlank() ? null : location.trim();
+        int[] requiredSkillIds = skillDictionary.toSortedIds(skills, false);
+        if (skills != null && requiredSkillIds.length < skills.stream().map(SkillDictionary::normalize)
+                .filter(skill -> !skill.isEmpty()).distinct().count()) {
+            return new ArrayList<>(); // A required skill no posting has ever listed
+        }
+
+        long searchStartNanos = System.nanoTime();
+        String[] hitIds;
+        double[] hitScores;
+        lock.readLock().lock();
+        try {
+            int termCount = parsed.terms().size();
+            TermPostings[] lists = new TermPostings[termCount];
+            for (int t = 0; t < termCount; t++) {
+                lists[t] = postingsByTerm.get(parsed.terms().get(t));
+                if (lists[t] == null) {
+                    return new ArrayList<>(); // Conjunctive: one unknown term rules out every posting
+                }
+            }
+
+            // Rarest term first; phrases refer to the terms by their position in this order
+            Integer[] order = new Integer[termCount];
+            for (int t = 0; t < termCount; t++) {
+                order[t] = t;
+            }
+            Arrays.sort(order, Comparator.comparingInt(t -> lists[t].count));
+            TermPostings[] sorted = new TermPostings[termCount];
+            Map<String, Integer> listIndexByTerm = new HashMap<>();
+            double[] idf = new double[termCount];
+            for (int i = 0; i < termCount; i++) {
+                sorted[i] = lists[order[i]];
+                listIndexByTerm.put(parsed.terms().get(order[i]), i);
+                // df still counts replaced slots and can exceed liveCount, which makes the log negative
+                // (and would invert the ranking); floored at a small positive value, as Lucene does
+                idf[i] = Math.max(MIN_IDF, Math.log(1.0 + (liveCount - sorted[i].count + 0.5) / (sorted[i].count + 0.5)));
+            }
+            int[][] phrases = new int[parsed.phrases().size()][];
+            for (int p = 0; p < phrases.length; p++) {
+                List<String> phrase = parsed.phrases().get(p);
+                phrases[p] = new int[phrase.size()];
+                for (int k = 0; k < phrase.size(); k++) {
+                    phrases[p][k] = listIndexByTerm.get(phrase.get(k));
+                }
+            }
+
+            double averageLength = liveCount == 0 ? 1.0 : Math.max(1.0, (double) totalLength / liveCount);
+            TopKHeap topHits = new TopKHeap((int) Math.min((long) offset + limit, Integer.MAX_VALUE));
+            int[] cursors = new int[termCount];
+            TermPostings rarest = sorted[0];
+
+            candidates:
+            for (int i = 0; i < rarest.count; i++) {
+                int slot = rarest.slots[i];
+                if (replacedSlots.get(slot)) {
+                    continue;
+                }
+                cursors[0] = i;
+                for (int t = 1; t < termCount; t++) {
+                    cursors[t] = advance(sorted[t].slots, sorted[t].count, cursors[t], slot);
+                    if (cursors[t] == sorted[t].count) {
+                        break candidates; // A shorter list is exhausted: no later slot can match either
+                    }
+                    if (sorted[t].slots[cursors[t]] != slot) {
+                        continue candidates;
+                    }
+                }
+
+                if (locationFilter != null && !locationFilter.equalsIgnoreCase(locationsBySlot[slot])) {
+                    continue;
+                }
+                if (requiredSkillIds.length > 0
+                        && SkillDictionary.intersectionCount(requiredSkillIds, skillIdsBySlot[slot]) < requiredSkillIds.length) {
+                    continue;
+                }
+                for (int[] phrase : phrases) {
+                    if (!containsPhrase(sorted, cursors, phrase)) {
+                        continue candidates;
+                    }
+                }
+
+                double lengthNorm = K1 * (1.0 - B + B * lengthsBySlot[slot] / averageLength);
+                double score = 0.0;
+                for (int t = 0; t < termCount; t++) {
+                    int frequency = sorted[t].frequency(cursors[t]);
+                    score += idf[t] * frequency * (K1 + 1.0) / (frequency + lengthNorm);
+                }
+                topHits.offer(slot, score);
+            }
+
+            int kept = topHits.sortDescending();
+            hitIds = new String[Math.max(0, kept - offset)];
+            hitScores = new double[hitIds.length];
+            for (int i = offset; i < kept; i++) {
+                hitIds[i - offset] = postingIdsBySlot[topHits.id(i)];
+                hitScores[i - offset] = topHits.score(i);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Outside our lock, so the two index locks are never nested
+        List<JobSearchResult> page = new ArrayList<>(hitIds.length);
+        for (int i = 0; i < hitIds.length; i++) {
+            Optional<JobPosting> posting = jobSkillIndex.get(hitIds[i]);
+            if (posting.isPresent()) { // Always, unless the posting is being re-indexed right now
+                page.add(new JobSearchResult(posting.get(), hitScores[i]));
+            }
+        }
+        searchTimer.record(System.nanoTime() - searchStartNanos, TimeUnit.NANOSECONDS);
+        return page;
+    }
+
+    /**
+     * @return The number of postings currently indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Indexed postings, distinct terms and replaced slots still held in the posting lists.
+     */
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("postings", liveCount);
+            stats.put("terms", postingsByTerm.size());
+            stats.put("replacedSlots", slotCount - liveCount);
+            stats.put("averageLength", liveCount == 0 ? 0.0 : (double) totalLength / liveCount);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the replaced slots: live slots are renumbered in order (so posting lists stay
+     * ascending) and every posting list keeps only the entries of live slots. Terms left without
+     * entries are removed, and document frequencies count live postings only again.
+     * Caller holds the write lock; takes time linear in the size of the index.
+     */
+    private void compact() {
+        int[] newSlots = new int[slotCount];
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (replacedSlots.get(slot)) {
+                newSlots[slot] = -1;
+                continue;
+            }
+            newSlots[slot] = live;
+            postingIdsBySlot[live] = postingIdsBySlot[slot];
+            locationsBySlot[live] = locationsBySlot[slot];
+            lengthsBySlot[live] = lengthsBySlot[slot];
+            skillIdsBySlot[live] = skillIdsBySlot[slot];
+            live++;
+        }
+        Arrays.fill(postingIdsBySlot, live, slotCount, null);
+        Arrays.fill(locationsBySlot, live, slotCount, null);
+        Arrays.fill(skillIdsBySlot, live, slotCount, null);
+        slotsByPostingId.replaceAll((postingId, slot) -> newSlots[slot]);
+
+        Iterator<TermPostings> lists = postingsByTerm.values().iterator();
+        while (lists.hasNext()) {
+            TermPostings list = lists.next();
+            list.compact(newSlots);
+            if (list.count == 0) {
+                lists.remove();
+            }
+        }
+        System.out.println("Job search index compacted: dropped " + (slotCount - live) + " replaced slots.");
+        replacedSlots.clear();
+        slotCount = live;
+    }
+
+    /**
+     * Splits text into lowercase tokens of letters and digits; '+' and '#' are kept inside tokens
+     * so that skills such as "C++" and "C#" stay searchable.
+     *
+     * @param text The text, may be null.
+     * @return The tokens in text order.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        boolean hasLetterOrDigit = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            boolean letterOrDigit = Character.isLetterOrDigit(c);
+            if (isTokenChar(c)) {
+                if (start < 0) {
+                    start = i;
+                    hasLetterOrDigit = false;
+                }
+                hasLetterOrDigit |= letterOrDigit;
+            } else if (start >= 0) {
+                if (hasLetterOrDigit) { // Skip stray "+" and "#" runs
+                    tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * @return Whether a character belongs to a token: letters, digits, '+' and '#'. Shared with
+     * {@link SkillExtractor}, so a skill mention ends exactly where a search term would.
+     */
+    static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    /**
+     * Parses a query into its distinct terms and its double-quoted phrases (of two or more terms).
+     * Phrase terms are also query terms; an unterminated quote runs to the end of the query.
+     */
+    static ParsedQuery parse(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        List<List<String>> phrases = new ArrayList<>();
+        if (query != null) {
+            String[] parts = query.split("\"", -1);
+            for (int i = 0; i < parts.length; i++) {
+                List<String> tokens = tokenize(parts[i]);
+                if (i % 2 == 1 && tokens.size() > 1) {
+                    phrases.add(tokens);
+                }
+                terms.addAll(tokens);
+            }
+        }
+        List<String> limited = new ArrayList<>(terms);
+        if (limited.size() > MAX_QUERY_TERMS) {
+            limited = new ArrayList<>(limited.subList(0, MAX_QUERY_TERMS));
+            Set<String> kept = new LinkedHashSet<>(limited);
+            phrases.removeIf(phrase -> !kept.containsAll(phrase));
+        }
+        return new ParsedQuery(limited, phrases);
+    }
+
+    record ParsedQuery(List<String> terms, List<List<String>> phrases) {
+    }
+
+    /**
+     * Tokenizes the title and the description of a posting and collects each term's weighted
+     * frequency and positions. Positions continue across fields with a gap, so a phrase never
+     * spans the end of the title and the start of the description.
+     */
+    private static Map<String, Occurrences> analyze(JobPosting job) {
+        Map<String, Occurrences> terms = new HashMap<>();
+        int position = addField(terms, job.getTitle(), 0, TITLE_BOOST);
+        addField(terms, job.getDescription(), position + 1, 1);
+        return terms;
+    }
+
+    private static int addField(Map<String, Occurrences> terms, String text, int position, int weight) {
+        for (String token : tokenize(text)) {
+            terms.computeIfAbsent(token, term -> new Occurrences()).add(position++, weight);
+        }
+        return position;
+    }
+
+    /**
+     * Checks whether the terms of a phrase occur at consecutive positions in the current candidate.
+     *
+     * @param lists The query's posting lists, rarest first.
+     * @param cursors Per list, the index of the current candidate's entry.
+     * @param phrase The phrase's terms, as indexes into {@code lists}.
+     */
+    private static boolean containsPhrase(TermPostings[] lists, int[] cursors, int[] phrase) {
+        int[] first = lists[phrase[0]].positions(cursors[phrase[0]]);
+        int[][] following = new int[phrase.length][];
+        for (int k = 1; k < phrase.length; k++) {
+            following[k] = lists[phrase[k]].positions(cursors[phrase[k]]);
+        }
+        for (int start : first) {
+            boolean matches = true;
+            for (int k = 1; k < phrase.length && matches; k++) {
+                matches = Arrays.binarySearch(following[k], start + k) >= 0;
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first entry at or after {@code from} whose slot is not below {@code target},
+     * galloping ahead and then binary searching.
+     *
+     * @param slots A posting list's ascending slots.
+     * @param count The number of entries used in {@code slots}.
+     * @return The entry index, or {@code count} if every remaining slot is below the target.
+     */
+    static int advance(int[] slots, int count, int from, int target) {
+        if (from >= count || slots[from] >= target) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        int high = from + step;
+        while (high < count && slots[high] < target) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        int found = Arrays.binarySearch(slots, low + 1, Math.min(high + 1, count), target);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    /**
+     * Occurrences of one term in the posting being indexed.
+     */
+    private static final class Occurrences {
+        private int frequency; // Weighted: title occurrences count TITLE_BOOST times
+        private int[] positions = new int[2];
+        private int count;
+
+        private void add(int position, int weight) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = position;
+            frequency += weight;
+        }
+    }
+
+    /**
+     * Posting list of one term: the slots containing it in ascending order and, per entry, an
+     * offset into a shared byte array holding the varint-encoded frequency, position count and
+     * delta-encoded positions.
+     */
+    private static final class TermPostings {
+        private int[] slots = new int[4];
+        private int[] dataOffsets = new int[4];
+        private int count;
+        private byte[] data = new byte[16];
+        private int dataLength;
+
+        private void append(int slot, Occurrences occurrences) {
+            if (count == slots.length) {
+                slots = Arrays.copyOf(slots, count * 2);
+                dataOffsets = Arrays.copyOf(dataOffsets, count * 2);
+            }
+            slots[count] = slot;
+            dataOffsets[count] = dataLength;
+            count++;
+
+            writeVarint(occurrences.frequency);
+            writeVarint(occurrences.count);
+            int previous = 0;
+            for (int i = 0; i < occurrences.count; i++) {
+                writeVarint(occurrences.positions[i] - previous);
+                previous = occurrences.positions[i];
+            }
+        }
+
+        /**
+         * Keeps only the entries of live slots, renumbered.
+         *
+         * @param newSlots Old slot -> new slot, or -1 for a replaced slot.
+         */
+        private void compact(int[] newSlots) {
+            byte[] kept = new byte[dataLength];
+            int keptLength = 0;
+            int keptCount = 0;
+            for (int i = 0; i < count; i++) {
+                int slot = newSlots[slots[i]];
+                if (slot < 0) {
+                    continue;
+                }
+                int start = dataOffsets[i];
+                int end = i + 1 < count ? dataOffsets[i + 1] : dataLength;
+                System.arraycopy(data, start, kept, keptLength, end - start);
+                slots[keptCount] = slot;
+                dataOffsets[keptCount] = keptLength;
+                keptLength += end - start;
+                keptCount++;
+            }
+            slots = Arrays.copyOf(slots, Math.max(4, keptCount));
+            dataOffsets = Arrays.copyOf(dataOffsets, Math.max(4, keptCount));
+            count = keptCount;
+            data = Arrays.copyOf(kept, Math.max(16, keptLength));
+            dataLength = keptLength;
+        }
+
+        private int frequency(int entry) {
+            return readVarint(new int[]{dataOffsets[entry]});
+        }
+
+        private int[] positions(int entry) {
+            int[] cursor = {dataOffsets[entry]};
+            readVarint(cursor); // Skip the frequency
+            int[] positions = new int[readVarint(cursor)];
+            int position = 0;
+            for (int i = 0; i < positions.length; i++) {
+                position += readVarint(cursor);
+                positions[i] = position;
+            }
+            return positions;
+        }
+
+        private void writeVarint(int value) {
+            if (dataLength + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[dataLength++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[dataLength++] = (byte) value;
+        }
+
+        private int readVarint(int[] cursor) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[cursor[0]++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
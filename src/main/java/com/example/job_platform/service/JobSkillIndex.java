@@ -0,0 +1,408 @@
+// src/main/java/com/example/job_platform/service/JobSkillIndex.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import com.example.job_platform.util.TopKHeap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from skill ID to the job postings requiring it.
+ * Each indexed posting occupies a dense int slot and keeps its skills as a sorted
+ * {@link SkillDictionary} ID array, so ranking only touches postings sharing at least one
+ * skill with the applicant and scores them with a primitive intersection count.
+ * For {@link ScoringMode#IDF} the index also keeps ln(df + 1) per skill, updated only for the
+ * skills of each posting added, so IDF weights are never recomputed per request.
+ * It is also the in-memory store of postings by ID that {@link JobSearchIndex} resolves its hits from.
+ * The index is built by {@link JobPostingService#rebuildIndexes()} once the application is ready
+ * and kept current by {@link JobPostingService} whenever a posting is saved.
+ */
+@Component
+public class JobSkillIndex {
+
+    private final SkillDictionary skillDictionary;
+
+    // Guards every array below; rankings take the read lock, indexing takes the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Slot -> posting and slot -> its sorted skill IDs
+    private JobPosting[] postings = new JobPosting[1024];
+    private int[][] skillIdsBySlot = new int[1024][];
+    // Slot -> the subset of its skill IDs listed by the poster (the same array when nothing was extracted)
+    private int[][] listedSkillIdsBySlot = new int[1024][];
+    private int postingCount;
+    private final Map<String, Integer> slotsByPostingId = new HashMap<>();
+
+    // Skill ID -> slots of the postings requiring it (first slotCountsBySkill[id] entries are used)
+    private int[][] slotsBySkill = new int[256][];
+    private int[] slotCountsBySkill = new int[256];
+    // Skill ID -> ln(slotCountsBySkill[id] + 1), maintained alongside the counts
+    private double[] logDocFrequencyBySkill = new double[256];
+    // Skill ID -> number of postings whose poster listed it (extracted skills excluded)
+    private int[] listedCountsBySkill = new int[256];
+
+    // Ranking stages (see ResumeService for the profile-fetch stage)
+    private final Timer jobScanTimer;
+    private final Timer sortTimer;
+
+    @Autowired
+    public JobSkillIndex(SkillDictionary skillDictionary, MeterRegistry meterRegistry) {
+        this.skillDictionary = skillDictionary;
+        this.jobScanTimer = ResumeService.recommendationStageTimer(meterRegistry, "job-scan");
+        this.sortTimer = ResumeService.recommendationStageTimer(meterRegistry, "sort");
+    }
+
+    /**
+     * Adds a saved job posting to the index, replacing any previous entry with the same ID.
+     *
+     * @param job The persisted job posting (must have an ID).
+     */
+    public void add(JobPosting job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        int[] skillIds = skillDictionary.toSortedIds(job.getSkills(), true);
+        int[] listedSkillIds = withoutIds(skillIds, skillDictionary.toSortedIds(job.getExtractedSkills(), true));
+
+        lock.writeLock().lock();
+        try {
+            Integer existingSlot = slotsByPostingId.get(job.getId());
+            int slot;
+            if (existingSlot != null) {
+                slot = existingSlot;
+                for (int skillId : skillIdsBySlot[slot]) {
+                    removeFromPostingList(skillId, slot);
+                }
+                for (int skillId : listedSkillIdsBySlot[slot]) {
+                    listedCountsBySkill[skillId]--;
+                }
+            } else {
+                slot = postingCount++;
+                if (slot == postings.length) {
+                    postings = Arrays.copyOf(postings, slot * 2);
+                    skillIdsBySlot = Arrays.copyOf(skillIdsBySlot, slot * 2);
+                    listedSkillIdsBySlot = Arrays.copyOf(listedSkillIdsBySlot, slot * 2);
+                }
+                slotsByPostingId.put(job.getId(), slot);
+            }
+            postings[slot] = job;
+            skillIdsBySlot[slot] = skillIds;
+            listedSkillIdsBySlot[slot] = listedSkillIds;
+            for (int skillId : skillIds) {
+                appendToPostingList(skillId, slot);
+            }
+            for (int skillId : listedSkillIds) {
+                listedCountsBySkill[skillId]++; // A subset of skillIds, so the array is already large enough
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the indexed postings against an applicant's skills with {@link ScoringMode#OVERLAP}.
+     *
+     * @see #topMatches(int[], int, int, ScoringMode)
+     */
+    public List<JobRecommendation> topMatches(int[] applicantSkillIds, int offset, int limit) {
+        return topMatches(applicantSkillIds, offset, limit, ScoringMode.OVERLAP);
+    }
+
+    /**
+     * Ranks the indexed postings against an applicant's skills and returns one page of the ranking.
+     * Score = common skills / skills required by the job (each skill weighted by its IDF in
+     * {@link ScoringMode#IDF}), rounded to 2 decimals; postings without a common skill are never
+     * visited. Either mode scores a candidate with one merge walk over the two skill arrays.
+     * Only the best {@code offset + limit} are kept while scoring.
+     *
+     * @param applicantSkillIds The applicant's sorted skill IDs.
+     * @param offset The number of top-ranked postings to skip.
+     * @param limit The maximum number of recommendations to return.
+     * @param mode How skills are weighted.
+     * @return The requested page of recommendations, best match first.
+     */
+    public List<JobRecommendation> topMatches(int[] applicantSkillIds, int offset, int limit, ScoringMode mode) {
+        if (applicantSkillIds.length == 0 || limit <= 0 || offset < 0) {
+            return new ArrayList<>();
+        }
+        TopKHeap topMatches = new TopKHeap((int) Math.min((long) offset + limit, Integer.MAX_VALUE));
+
+        lock.readLock().lock();
+        try {
+            long scanStartNanos = System.nanoTime();
+            boolean idf = mode == ScoringMode.IDF;
+            double idfBase = idfBase(); // Weight of a skill = idfBase - ln(df + 1)
+            BitSet visited = new BitSet(postingCount);
+            for (int skillId : applicantSkillIds) {
+                if (skillId >= slotCountsBySkill.length) {
+                    continue; // Skill registered after the posting lists were last grown: no postings yet
+                }
+                int[] slots = slotsBySkill[skillId];
+                int count = slotCountsBySkill[skillId];
+                for (int i = 0; i < count; i++) {
+                    int slot = slots[i];
+                    if (visited.get(slot)) {
+                        continue;
+                    }
+                    visited.set(slot);
+                    double matchScore = idf
+                            ? idfScore(applicantSkillIds, skillIdsBySlot[slot], logDocFrequencyBySkill, idfBase)
+                            : score(applicantSkillIds, skillIdsBySlot[slot]);
+                    if (matchScore > 0) {
+                        topMatches.offer(slot, matchScore);
+                    }
+                }
+            }
+
+            long sortStartNanos = System.nanoTime();
+            jobScanTimer.record(sortStartNanos - scanStartNanos, TimeUnit.NANOSECONDS);
+
+            int kept = topMatches.sortDescending();
+            List<JobRecommendation> page = new ArrayList<>(Math.max(0, kept - offset));
+            for (int i = offset; i < kept; i++) {
+                page.add(new JobRecommendation(postings[topMatches.id(i)], topMatches.score(i)));
+            }
+            sortTimer.record(System.nanoTime() - sortStartNanos, TimeUnit.NANOSECONDS);
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up an indexed posting without a database read.
+     *
+     * @param postingId The job posting ID.
+     * @return The posting as last indexed, or Optional.empty() if it is not indexed.
+     */
+    public Optional<JobPosting> get(String postingId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByPostingId.get(postingId);
+            return slot != null ? Optional.of(postings[slot]) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of postings currently indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Captures how one posting is scored, for scoring many applicants against it: ranking applicants
+     * for a job, or patching cached rankings with a new posting without re-ranking.
+     * In {@link ScoringMode#IDF} the weights of the posting's skills are read once, under one read
+     * lock, so scoring each applicant takes no lock and no logarithm.
+     *
+     * @param jobSkillIds The posting's sorted skill IDs.
+     * @param mode How skills are weighted.
+     * @return A scorer giving the match score as in {@link #topMatches(int[], int, int, ScoringMode)}.
+     */
+    public JobScorer scorer(int[] jobSkillIds, ScoringMode mode) {
+        if (mode != ScoringMode.IDF) {
+            return new JobScorer(jobSkillIds, null);
+        }
+        lock.readLock().lock();
+        try {
+            double idfBase = idfBase();
+            double[] weights = new double[jobSkillIds.length];
+            for (int i = 0; i < jobSkillIds.length; i++) {
+                int skillId = jobSkillIds[i];
+                weights[i] = idfBase - (skillId < logDocFrequencyBySkill.length ? logDocFrequencyBySkill[skillId] : 0.0);
+            }
+            return new JobScorer(jobSkillIds, weights);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts only the skills posters listed themselves, so skills extracted from descriptions never
+     * feed back into the extraction dictionary (see {@link SkillExtractor#refresh()}). Postings
+     * stored before extracted skills were recorded count all of their skills as listed.
+     *
+     * @return A snapshot of, per skill ID, the number of indexed postings whose poster listed the
+     * skill. Skills with IDs past the end of the array are listed by no posting.
+     */
+    public int[] listedCountsBySkill() {
+        lock.readLock().lock();
+        try {
+            return Arrays.copyOf(listedCountsBySkill, listedCountsBySkill.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Simple match score: number of common skills / total unique skills required by the job,
+     * rounded to 2 decimal places.
+     */
+    static double score(int[] applicantSkillIds, int[] jobSkillIds) {
+        if (jobSkillIds.length == 0) {
+            return 0.0;
+        }
+        int commonSkills = SkillDictionary.intersectionCount(applicantSkillIds, jobSkillIds);
+        double matchScore = (double) commonSkills / jobSkillIds.length;
+        return Math.round(matchScore * 100.0) / 100.0;
+    }
+
+    /**
+     * IDF-weighted match score: sum of the IDF weights of the common skills / sum of the weights of
+     * all skills required by the job, rounded to 2 decimal places. One merge walk over both arrays,
+     * like {@link #score(int[], int[])}; the weights are table lookups.
+     *
+     * @param logDocFrequencyBySkill ln(df + 1) per skill ID.
+     * @param idfBase ln(N + 1) + 1 for N indexed postings; a skill's weight is idfBase - ln(df + 1).
+     */
+    static double idfScore(int[] applicantSkillIds, int[] jobSkillIds, double[] logDocFrequencyBySkill, double idfBase) {
+        double commonWeight = 0.0;
+        double totalWeight = 0.0;
+        int i = 0;
+        for (int skillId : jobSkillIds) {
+            double weight = idfBase - (skillId < logDocFrequencyBySkill.length ? logDocFrequencyBySkill[skillId] : 0.0);
+            totalWeight += weight;
+            while (i < applicantSkillIds.length && applicantSkillIds[i] < skillId) {
+                i++;
+            }
+            if (i < applicantSkillIds.length && applicantSkillIds[i] == skillId) {
+                commonWeight += weight;
+                i++;
+            }
+        }
+        if (commonWeight == 0.0 || totalWeight <= 0.0) {
+            return 0.0;
+        }
+        return Math.round(commonWeight / totalWeight * 100.0) / 100.0;
+    }
+
+    /**
+     * @return The IDs in sorted {@code skillIds} that are not in sorted {@code removed}; the input
+     * array itself when nothing is removed.
+     */
+    private static int[] withoutIds(int[] skillIds, int[] removed) {
+        if (removed.length == 0) {
+            return skillIds;
+        }
+        int[] kept = new int[skillIds.length];
+        int count = 0;
+        int j = 0;
+        for (int skillId : skillIds) {
+            while (j < removed.length && removed[j] < skillId) {
+                j++;
+            }
+            if (j == removed.length || removed[j] != skillId) {
+                kept[count++] = skillId;
+            }
+        }
+        return Arrays.copyOf(kept, count);
+    }
+
+    /**
+     * One posting's skills and, in {@link ScoringMode#IDF}, their weights as of
+     * {@link #scorer(int[], ScoringMode)}; null weights mean {@link ScoringMode#OVERLAP}.
+     */
+    public record JobScorer(int[] jobSkillIds, double[] weights) {
+
+        /**
+         * @param applicantSkillIds The applicant's sorted skill IDs.
+         * @return The applicant's match score for the posting.
+         */
+        public double score(int[] applicantSkillIds) {
+            if (weights == null) {
+                return JobSkillIndex.score(applicantSkillIds, jobSkillIds);
+            }
+            // Same sums, in the same order, as idfScore
+            double commonWeight = 0.0;
+            double totalWeight = 0.0;
+            int i = 0;
+            for (int j = 0; j < jobSkillIds.length; j++) {
+                int skillId = jobSkillIds[j];
+                totalWeight += weights[j];
+                while (i < applicantSkillIds.length && applicantSkillIds[i] < skillId) {
+                    i++;
+                }
+                if (i < applicantSkillIds.length && applicantSkillIds[i] == skillId) {
+                    commonWeight += weights[j];
+                    i++;
+                }
+            }
+            if (commonWeight == 0.0 || totalWeight <= 0.0) {
+                return 0.0;
+            }
+            return Math.round(commonWeight / totalWeight * 100.0) / 100.0;
+        }
+    }
+
+    /**
+     * @return The current {@link ScoringMode#IDF} weight of a skill, ln(N + 1) + 1 - ln(df + 1).
+     */
+    double idfWeight(int skillId) {
+        lock.readLock().lock();
+        try {
+            return idfBase() - (skillId < logDocFrequencyBySkill.length ? logDocFrequencyBySkill[skillId] : 0.0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds a lock
+    private double idfBase() {
+        return Math.log(postingCount + 1.0) + 1.0;
+    }
+
+    private void appendToPostingList(int skillId, int slot) {
+        if (skillId >= slotsBySkill.length) {
+            int grown = Math.max(slotsBySkill.length * 2, skillId + 1);
+            slotsBySkill = Arrays.copyOf(slotsBySkill, grown);
+            slotCountsBySkill = Arrays.copyOf(slotCountsBySkill, grown);
+            logDocFrequencyBySkill = Arrays.copyOf(logDocFrequencyBySkill, grown);
+            listedCountsBySkill = Arrays.copyOf(listedCountsBySkill, grown);
+        }
+        int[] slots = slotsBySkill[skillId];
+        int count = slotCountsBySkill[skillId];
+        if (slots == null) {
+            slots = new int[4];
+        } else if (count == slots.length) {
+            slots = Arrays.copyOf(slots, count * 2);
+        }
+        slots[count] = slot;
+        slotsBySkill[skillId] = slots;
+        slotCountsBySkill[skillId] = count + 1;
+        logDocFrequencyBySkill[skillId] = Math.log(count + 2.0);
+    }
+
+    private void removeFromPostingList(int skillId, int slot) {
+        int[] slots = slotsBySkill[skillId];
+        int count = slotCountsBySkill[skillId];
+        for (int i = 0; i < count; i++) {
+            if (slots[i] == slot) {
+                slots[i] = slots[count - 1]; // Order within a posting list does not matter
+                slotCountsBySkill[skillId] = count - 1;
+                logDocFrequencyBySkill[skillId] = Math.log(count);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+// src/main/java/com/example/job_platform/service/PasswordHashingBusyException.java
+package com.example.job_platform.service;
+
+/**
+ * Thrown by {@link PasswordHashingExecutor} when a password cannot be hashed right now because the
+ * hashing pool is saturated. Callers should answer 503 and let the client retry later.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
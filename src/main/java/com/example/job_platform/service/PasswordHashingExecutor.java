@@ -0,0 +1,178 @@
+// src/main/java/com/example/job_platform/service/PasswordHashingExecutor.java
+package com.example.job_platform.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the CPU-heavy BCrypt work of login and signup on a dedicated, fixed-size pool with a
+ * bounded queue, so a burst of login attempts can occupy at most {@code password.hashing.pool-size}
+ * cores instead of every servlet thread. A hash is refused up front, with a
+ * {@link PasswordHashingBusyException} and no waiting, when the queue is full or when the hashes
+ * already queued would not finish within {@code password.hashing.timeout-ms} at the average hash
+ * time. The timeout also bounds how long an admitted request's thread waits for its result, so
+ * under a burst the caller answers 503 quickly instead of parking servlet threads.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final int threads;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+
+    // BCrypt time on the pool, per operation; queue wait is excluded
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    @Autowired
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                                   @Value("${password.hashing.pool-size:0}") int poolSize,
+                                   @Value("${password.hashing.queue-capacity:32}") int queueCapacity,
+                                   @Value("${password.hashing.timeout-ms:1000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // AbortPolicy (the default) throws RejectedExecutionException once the queue is full
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("Hashes refused because the hashing queue was full or would not drain in time")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("password.hashing.timeouts")
+                .description("Hashes abandoned after password.hashing.timeout-ms")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", pool, executor -> executor.getQueue().size())
+                .description("Hashes waiting for a pool thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes currently running")
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing")
+                .description("BCrypt time on the hashing pool")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @param rawPassword The raw password.
+     * @return The encoded password.
+     * @throws PasswordHashingBusyException if the pool is saturated.
+     */
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks a raw password against a stored hash on the hashing pool.
+     *
+     * @param rawPassword The raw password.
+     * @param encodedPassword The stored encoded password.
+     * @return true if the password matches.
+     * @throws PasswordHashingBusyException if the pool is saturated.
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * @return Pool size, current queue depth, active hashes, rejection/timeout counters and hash latency.
+     */
+    public Map<String, Object> stats() {
+        long completedCount = encodeTimer.count() + matchesTimer.count();
+        double totalMillis = encodeTimer.totalTime(TimeUnit.MILLISECONDS) + matchesTimer.totalTime(TimeUnit.MILLISECONDS);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", pool.getMaximumPoolSize());
+        stats.put("active", pool.getActiveCount());
+        stats.put("queueDepth", pool.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", completedCount);
+        stats.put("rejected", (long) rejected.count());
+        stats.put("timedOut", (long) timedOut.count());
+        stats.put("avgHashMillis", completedCount == 0 ? 0.0 : totalMillis / completedCount);
+        stats.put("maxHashMillis", Math.max(encodeTimer.max(TimeUnit.MILLISECONDS), matchesTimer.max(TimeUnit.MILLISECONDS)));
+        return stats;
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        if (expectedWaitMillis() > timeoutMillis) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Password hashing is saturated.");
+        }
+        Future<T> future;
+        try {
+            future = pool.submit(() -> timer.recordCallable(hash));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Password hashing queue is full.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            pool.purge(); // Drop it from the queue if it has not started yet
+            timedOut.increment();
+            throw new PasswordHashingBusyException("Password hashing timed out after " + timeoutMillis + " ms.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for password hashing.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * @return How long a hash submitted now would wait for a pool thread, from the queue depth and
+     * the average BCrypt time so far; 0 until a hash has completed.
+     */
+    private double expectedWaitMillis() {
+        long completedCount = encodeTimer.count() + matchesTimer.count();
+        if (completedCount == 0) {
+            return 0;
+        }
+        double avgHashMillis = (encodeTimer.totalTime(TimeUnit.MILLISECONDS)
+                + matchesTimer.totalTime(TimeUnit.MILLISECONDS)) / completedCount;
+        return (double) pool.getQueue().size() / threads * avgHashMillis;
+    }
+}
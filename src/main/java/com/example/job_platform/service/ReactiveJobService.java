@@ -0,0 +1,103 @@
+// src/main/java/com/example/job_platform/service/ReactiveJobService.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import com.example.job_platform.repository.ReactiveUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterparts of the job listing and recommendation reads, built on the reactive
+ * Mongo driver. Results are emitted as Flux streams; documents are pulled from the Mongo cursor
+ * only as fast as the subscriber (ultimately the HTTP client) requests them.
+ */
+@Service
+public class ReactiveJobService {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final ResumeService resumeService; // Same ranking as the blocking endpoint
+    private final RecommendationCache recommendationCache;
+
+    // Documents fetched per cursor round trip; small so slow clients do not pin large batches
+    private static final int STREAM_CURSOR_BATCH_SIZE = 100;
+
+    @Autowired
+    public ReactiveJobService(ReactiveMongoTemplate reactiveMongoTemplate, ReactiveUserRepository reactiveUserRepository,
+                              ResumeService resumeService, RecommendationCache recommendationCache) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.resumeService = resumeService;
+        this.recommendationCache = recommendationCache;
+    }
+
+    /**
+     * Streams job postings, newest first, with the same filters as the paged listing.
+     *
+     * @param location Optional exact location filter.
+     * @param experience Optional exact experience filter.
+     * @param skill Optional skill filter.
+     * @param includeDescription Whether to include job descriptions.
+     * @param limit Maximum number of postings to emit.
+     * @return A Flux of job postings ordered by (postedDate desc, _id desc).
+     */
+    public Flux<JobPosting> streamJobPostings(String location, String experience, String skill,
+                                              boolean includeDescription, int limit) {
+        List<Criteria> filters = JobPostingService.listingFilters(location, experience, skill);
+        Query query = filters.isEmpty() ? new Query() : new Query(new Criteria().andOperator(filters));
+        query.with(Sort.by(Sort.Direction.DESC, "postedDate", "_id"));
+        query.cursorBatchSize(STREAM_CURSOR_BATCH_SIZE);
+        query.limit(limit);
+        if (!includeDescription) {
+            query.fields().exclude("description");
+        }
+        return reactiveMongoTemplate.find(query, JobPosting.class);
+    }
+
+    /**
+     * Streams one page of an applicant's recommendations, best match first.
+     * A cached ranking is emitted straight away; otherwise the applicant's profile is fetched
+     * without blocking and the page is ranked off the calling thread.
+     *
+     * @param applicantUsername The username of the applicant (already authorized by the caller).
+     * @param limit The maximum number of recommendations to emit.
+     * @param offset The number of top-ranked recommendations to skip.
+     * @param mode How skills are weighted in the match score.
+     * @return A Flux of recommendations in descending match score order; empty if the applicant
+     * does not exist or has no resume skills.
+     */
+    public Flux<JobRecommendation> streamRecommendations(String applicantUsername, int limit, int offset,
+                                                         ScoringMode mode) {
+        return Flux.defer(() -> {
+            Optional<List<JobRecommendation>> cached = recommendationCache.get(applicantUsername, mode, offset, limit);
+            if (cached.isPresent()) {
+                return Flux.fromIterable(cached.get());
+            }
+            long cacheVersion = recommendationCache.currentVersion(); // Before the profile is read, see rankForApplicant
+            long profileFetchStartNanos = System.nanoTime();
+            return reactiveUserRepository.findByUsername(applicantUsername)
+                    // Ranking is in-memory, but profiles not yet backfilled fall back to a blocking GridFS read
+                    .publishOn(Schedulers.boundedElastic())
+                    .flatMapIterable(applicant ->
+                            resumeService.rankForApplicant(applicant, limit, offset, mode, cacheVersion,
+                                    profileFetchStartNanos));
+        });
+    }
+
+    /**
+     * @return The scoring mode used when a request does not choose one.
+     */
+    public ScoringMode getDefaultScoringMode() {
+        return resumeService.getDefaultScoringMode();
+    }
+}
@@ -0,0 +1,292 @@
+// src/main/java/com/example/job_platform/service/RecommendationBatchService.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.ApplicantRecommendations;
+import com.example.job_platform.model.ApplicantRecommendations.RecommendedJob;
+import com.example.job_platform.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Batch engine that computes every applicant's top recommendations in one run, for daily digests.
+ * Applicant skill profiles are loaded once, split into fixed-size partitions and scored in parallel
+ * on a dedicated fork-join pool against the in-memory {@link JobSkillIndex} (the job corpus is
+ * already loaded there), using exactly the same ranking as the recommendations endpoint.
+ * Each partition writes its results to the 'applicant_recommendations' collection with one
+ * unordered bulk upsert, stamped with the run's 'generatedAt'. After a run without failed
+ * partitions, documents not written by it (applicants who dropped out since) are removed.
+ */
+@Service
+public class RecommendationBatchService {
+
+    private final MongoTemplate mongoTemplate;
+    private final JobSkillIndex jobSkillIndex;
+    private final SkillDictionary skillDictionary;
+    private final int topN;
+    private final ScoringMode scoringMode; // Same default as the recommendations endpoint
+    private final int partitionSize;
+    private final int parallelism;
+
+    // Runs the (mostly blocking) load-and-coordinate part of a run off the caller's thread: Spring's
+    // application task executor, virtual threads in the 'virtual' profile. Scoring uses a per-run fork-join pool.
+    private final TaskExecutor coordinator;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile RunProgress lastRun;
+
+    @Autowired
+    public RecommendationBatchService(MongoTemplate mongoTemplate, JobSkillIndex jobSkillIndex,
+                                      SkillDictionary skillDictionary,
+                                      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                      TaskExecutor coordinator,
+                                      @Value("${recommendations.batch.top-n:20}") int topN,
+                                      ScoringMode scoringMode,
+                                      @Value("${recommendations.batch.partition-size:1000}") int partitionSize,
+                                      @Value("${recommendations.batch.parallelism:0}") int parallelism) {
+        this.mongoTemplate = mongoTemplate;
+        this.jobSkillIndex = jobSkillIndex;
+        this.skillDictionary = skillDictionary;
+        this.coordinator = coordinator;
+        this.topN = topN;
+        this.scoringMode = scoringMode;
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Nightly trigger; skipped if a run is still in progress.
+     */
+    @Scheduled(cron = "${recommendations.batch.cron:0 0 2 * * *}")
+    public void runNightly() {
+        if (!startRun()) {
+            System.out.println("Nightly recommendation batch skipped: a run is already in progress.");
+        }
+    }
+
+    /**
+     * Starts a batch run in the background.
+     *
+     * @return true if the run was started, false if one is already in progress.
+     */
+    public boolean startRun() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        RunProgress progress = new RunProgress();
+        lastRun = progress;
+        try {
+            coordinator.execute(() -> {
+                try {
+                    execute(progress);
+                } catch (Exception e) {
+                    progress.fail(e);
+                    System.err.println("Recommendation batch failed: " + e.getMessage());
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            progress.fail(e); // Executor rejected the run (e.g. during shutdown)
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * @return Progress, throughput and per-partition timings of the current or last run.
+     */
+    public Map<String, Object> getStatus() {
+        RunProgress progress = lastRun;
+        if (progress == null) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("state", "never-run");
+            return status;
+        }
+        return progress.toStatus();
+    }
+
+    private void execute(RunProgress progress) {
+        // 1. Load every applicant's skill profile once
+        List<ApplicantProfile> applicants = loadApplicants();
+        List<List<ApplicantProfile>> partitions = new ArrayList<>();
+        for (int start = 0; start < applicants.size(); start += partitionSize) {
+            partitions.add(applicants.subList(start, Math.min(start + partitionSize, applicants.size())));
+        }
+        progress.start(applicants.size(), partitions.size());
+        System.out.println("Recommendation batch started: " + applicants.size() + " applicants in "
+                + partitions.size() + " partitions, parallelism " + parallelism + ".");
+
+        // 2. Score and write each partition on the fork-join pool
+        LocalDateTime generatedAt = LocalDateTime.now();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                int partitionIndex = i;
+                List<ApplicantProfile> partition = partitions.get(i);
+                tasks.add(pool.submit(() -> scorePartition(partitionIndex, partition, generatedAt, progress)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        if (progress.failedPartitions.get() == 0) {
+            // Everyone still eligible was just rewritten; older documents belong to applicants who dropped out
+            progress.removedStale = mongoTemplate.remove(new Query(Criteria.where("generatedAt").lt(generatedAt)),
+                    ApplicantRecommendations.class).getDeletedCount();
+        }
+        progress.complete();
+        System.out.println("Recommendation batch completed: " + progress.processed.get() + " applicants, "
+                + progress.failedPartitions.get() + " failed partitions, " + progress.removedStale
+                + " stale documents removed.");
+    }
+
+    private List<ApplicantProfile> loadApplicants() {
+        Query query = new Query(Criteria.where("section").regex("^apply$", "i")
+                .and("resumeSkills.0").exists(true)); // At least one skill
+        query.fields().include("username").include("resumeSkills");
+
+        List<ApplicantProfile> applicants = new ArrayList<>();
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.forEach(user -> {
+                int[] skillIds = skillDictionary.toSortedIds(user.getResumeSkills(), false);
+                if (skillIds.length > 0) {
+                    applicants.add(new ApplicantProfile(user.getUsername(), skillIds));
+                }
+            });
+        }
+        return applicants;
+    }
+
+    private void scorePartition(int partitionIndex, List<ApplicantProfile> partition,
+                                LocalDateTime generatedAt, RunProgress progress) {
+        long startNanos = System.nanoTime();
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ApplicantRecommendations.class);
+            for (ApplicantProfile applicant : partition) {
+                List<JobRecommendation> ranking = jobSkillIndex.topMatches(applicant.skillIds(), 0, topN, scoringMode);
+                List<RecommendedJob> recommendations = new ArrayList<>(ranking.size());
+                for (JobRecommendation recommendation : ranking) {
+                    recommendations.add(new RecommendedJob(
+                            recommendation.getJobPosting().getId(),
+                            recommendation.getJobPosting().getTitle(),
+                            recommendation.getJobPosting().getLocation(),
+                            recommendation.getMatchScore()));
+                }
+                bulk.upsert(new Query(Criteria.where("_id").is(applicant.username())),
+                        new Update().set("generatedAt", generatedAt).set("recommendations", recommendations));
+            }
+            bulk.execute();
+            progress.processed.addAndGet(partition.size());
+            progress.recordPartition(partitionIndex, partition.size(), System.nanoTime() - startNanos, null);
+        } catch (Exception e) {
+            progress.failedPartitions.incrementAndGet();
+            progress.recordPartition(partitionIndex, partition.size(), System.nanoTime() - startNanos, e.getMessage());
+            System.err.println("Recommendation batch partition " + partitionIndex + " failed: " + e.getMessage());
+        }
+    }
+
+    private record ApplicantProfile(String username, int[] skillIds) {
+    }
+
+    /**
+     * Mutable progress of one run, updated concurrently by the partition tasks.
+     */
+    private static final class RunProgress {
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicInteger failedPartitions = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Map<String, Object>> partitionTimings = new ConcurrentLinkedQueue<>();
+        private final long startNanos = System.nanoTime();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile String state = "loading";
+        private volatile long totalApplicants;
+        private volatile int totalPartitions;
+        private volatile long finishedNanos;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private volatile long removedStale; // Documents of applicants no longer eligible
+
+        private void start(long totalApplicants, int totalPartitions) {
+            this.totalApplicants = totalApplicants;
+            this.totalPartitions = totalPartitions;
+            this.state = "running";
+        }
+
+        private void recordPartition(int partitionIndex, int applicants, long elapsedNanos, String partitionError) {
+            Map<String, Object> timing = new LinkedHashMap<>();
+            timing.put("partition", partitionIndex);
+            timing.put("applicants", applicants);
+            timing.put("millis", elapsedNanos / 1_000_000);
+            if (partitionError != null) {
+                timing.put("error", partitionError);
+            }
+            partitionTimings.add(timing);
+        }
+
+        private void complete() {
+            finish(failedPartitions.get() == 0 ? "completed" : "completed-with-errors");
+        }
+
+        private void fail(Exception e) {
+            error = e.getMessage();
+            finish("failed");
+        }
+
+        private void finish(String finalState) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+
+        private Map<String, Object> toStatus() {
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            double elapsedSeconds = (end - startNanos) / 1_000_000_000.0;
+            long done = processed.get();
+
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("state", state);
+            status.put("startedAt", startedAt);
+            status.put("finishedAt", finishedAt);
+            status.put("totalApplicants", totalApplicants);
+            status.put("processedApplicants", done);
+            status.put("totalPartitions", totalPartitions);
+            status.put("completedPartitions", partitionTimings.size());
+            status.put("failedPartitions", failedPartitions.get());
+            status.put("removedStaleDocuments", removedStale);
+            status.put("elapsedSeconds", elapsedSeconds);
+            status.put("applicantsPerSecond", elapsedSeconds > 0 ? done / elapsedSeconds : 0.0);
+            status.put("partitionTimings", new ArrayList<>(partitionTimings));
+            if (error != null) {
+                status.put("error", error);
+            }
+            return status;
+        }
+    }
+}
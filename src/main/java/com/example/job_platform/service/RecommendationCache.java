@@ -0,0 +1,242 @@
+// src/main/java/com/example/job_platform/service/RecommendationCache.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded, least-recently-used cache of each applicant's top recommendations, per {@link ScoringMode}.
+ * An entry holds the best {@code depth} recommendations (or all matches, if there were fewer),
+ * so any page inside that window is served without re-ranking.
+ * Entries are invalidated when the applicant uploads a new resume. When a new job is posted,
+ * {@link ScoringMode#OVERLAP} entries are patched in place, since one posting can only insert itself
+ * into an existing ranking. {@link ScoringMode#IDF} entries are dropped instead: every posting
+ * changes N, and with it the weight of every skill, so cached IDF scores would no longer be
+ * comparable with the new posting's score (or with the applicant rankings of
+ * {@link ApplicantSkillIndex}).
+ */
+@Component
+public class RecommendationCache {
+
+    private final SkillDictionary skillDictionary;
+    private final JobSkillIndex jobSkillIndex; // Scores new postings for patching
+    private final int maxEntries;
+    private final int maxDepth;
+
+    // Access-ordered so the eldest entry is the least recently used; guarded by "this"
+    private final LinkedHashMap<String, CachedRanking> entries;
+
+    // Bumped on every write so a ranking computed before a write is never cached after it
+    private long version;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private long patches;
+
+    @Autowired
+    public RecommendationCache(SkillDictionary skillDictionary, JobSkillIndex jobSkillIndex,
+                               @Value("${recommendations.cache.max-entries:10000}") int maxEntries,
+                               @Value("${recommendations.cache.max-depth:200}") int maxDepth) {
+        this.skillDictionary = skillDictionary;
+        this.jobSkillIndex = jobSkillIndex;
+        this.maxEntries = maxEntries;
+        this.maxDepth = maxDepth;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRanking> eldest) {
+                if (size() > RecommendationCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a page of an applicant's cached ranking if the cached window covers it.
+     *
+     * @param applicantUsername The applicant.
+     * @param mode The scoring mode of the ranking.
+     * @param offset The number of top-ranked recommendations to skip.
+     * @param limit The maximum number of recommendations to return.
+     * @return The page, or Optional.empty() on a cache miss.
+     */
+    public synchronized Optional<List<JobRecommendation>> get(String applicantUsername, ScoringMode mode,
+                                                              int offset, int limit) {
+        CachedRanking entry = entries.get(key(applicantUsername, mode));
+        long window = (long) offset + limit;
+        if (entry == null || (window > entry.depth && !entry.complete)) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        List<JobRecommendation> ranking = entry.ranking;
+        if (offset >= ranking.size()) {
+            return Optional.of(new ArrayList<>());
+        }
+        int end = (int) Math.min(window, ranking.size());
+        return Optional.of(new ArrayList<>(ranking.subList(offset, end)));
+    }
+
+    /**
+     * @return The current write version; pass it to {@link #put} after computing a ranking.
+     */
+    public synchronized long currentVersion() {
+        return version;
+    }
+
+    /**
+     * Stores an applicant's ranking unless a write happened since {@code versionBeforeRanking}.
+     *
+     * @param applicantUsername The applicant.
+     * @param mode The scoring mode the ranking was computed with.
+     * @param applicantSkills The applicant's skills, kept so the entry can be patched later.
+     * @param ranking The best {@code depth} recommendations, best first.
+     * @param depth The number of recommendations that was requested from the ranking.
+     * @param versionBeforeRanking The value of {@link #currentVersion()} read before ranking.
+     */
+    public synchronized void put(String applicantUsername, ScoringMode mode, List<String> applicantSkills,
+                                 List<JobRecommendation> ranking, int depth, long versionBeforeRanking) {
+        if (depth > maxDepth || versionBeforeRanking != version) {
+            return; // Too deep to be worth caching, or possibly stale
+        }
+        entries.put(key(applicantUsername, mode),
+                new CachedRanking(applicantSkills, mode, skillDictionary, new ArrayList<>(ranking), depth));
+    }
+
+    /**
+     * Drops an applicant's cached rankings in every scoring mode, e.g. after a new resume upload.
+     *
+     * @param applicantUsername The applicant.
+     */
+    public synchronized void invalidate(String applicantUsername) {
+        version++;
+        for (ScoringMode mode : ScoringMode.values()) {
+            if (entries.remove(key(applicantUsername, mode)) != null) {
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Drops every cached ranking, e.g. after a bulk ingestion where patching per posting costs more
+     * than re-ranking on demand.
+     */
+    public synchronized void invalidateAll() {
+        version++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    /**
+     * Patches every cached {@link ScoringMode#OVERLAP} ranking with a newly posted job and drops
+     * every {@link ScoringMode#IDF} ranking, whose weights the posting has changed. The job is
+     * inserted where it ranks; rankings that already hold {@code depth} entries drop their weakest one.
+     * The new posting wins ties, matching the ordering used by {@link JobSkillIndex}.
+     *
+     * @param job The newly saved job posting.
+     */
+    public synchronized void onJobPosted(JobPosting job) {
+        version++;
+        if (entries.isEmpty()) {
+            return;
+        }
+        int[] jobSkillIds = skillDictionary.toSortedIds(job.getSkills(), true);
+        int dictionarySize = skillDictionary.size();
+        JobSkillIndex.JobScorer scorer = jobSkillIndex.scorer(jobSkillIds, ScoringMode.OVERLAP);
+
+        Iterator<CachedRanking> cached = entries.values().iterator();
+        while (cached.hasNext()) {
+            CachedRanking entry = cached.next();
+            if (entry.mode == ScoringMode.IDF) {
+                cached.remove(); // Re-ranked on the next request, with the new weights
+                invalidations++;
+                continue;
+            }
+            if (entry.dictionarySize < dictionarySize) {
+                entry.refreshSkillIds(skillDictionary, dictionarySize); // Skills unknown at ranking time may now exist
+            }
+            double matchScore = scorer.score(entry.applicantSkillIds);
+            if (matchScore <= 0) {
+                continue;
+            }
+            List<JobRecommendation> ranking = entry.ranking;
+            if (!entry.complete && matchScore < ranking.get(ranking.size() - 1).getMatchScore()) {
+                continue; // Ranks below the cached window
+            }
+
+            int position = 0;
+            while (position < ranking.size() && ranking.get(position).getMatchScore() > matchScore) {
+                position++;
+            }
+            ranking.add(position, new JobRecommendation(job, matchScore));
+            if (ranking.size() > entry.depth) {
+                ranking.remove(ranking.size() - 1);
+                entry.complete = false;
+            }
+            patches++;
+        }
+    }
+
+    /**
+     * @return Hit/miss/eviction counters and current size, for monitoring.
+     */
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("evictions", evictions);
+        stats.put("invalidations", invalidations);
+        stats.put("patches", patches);
+        long lookups = hits + misses;
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hits / lookups);
+        return stats;
+    }
+
+    private static String key(String applicantUsername, ScoringMode mode) {
+        return mode.key() + ":" + applicantUsername;
+    }
+
+    /**
+     * One applicant's cached ranking in one scoring mode.
+     */
+    private static final class CachedRanking {
+        private final List<String> applicantSkills;
+        private final ScoringMode mode;
+        private int[] applicantSkillIds;
+        private int dictionarySize; // Dictionary size when applicantSkillIds was computed
+        private final List<JobRecommendation> ranking;
+        private final int depth;
+        private boolean complete; // True if the ranking holds every posting with a non-zero score
+
+        private CachedRanking(List<String> applicantSkills, ScoringMode mode, SkillDictionary skillDictionary,
+                      List<JobRecommendation> ranking, int depth) {
+            this.applicantSkills = applicantSkills;
+            this.mode = mode;
+            this.ranking = ranking;
+            this.depth = depth;
+            this.complete = ranking.size() < depth;
+            refreshSkillIds(skillDictionary, skillDictionary.size());
+        }
+
+        private void refreshSkillIds(SkillDictionary skillDictionary, int currentDictionarySize) {
+            this.applicantSkillIds = skillDictionary.toSortedIds(applicantSkills, false);
+            this.dictionarySize = currentDictionarySize;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+// src/main/java/com/example/job_platform/service/ResumeExtractionService.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.model.User;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsOperations;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-side skill extraction from uploaded resume PDFs.
+ * After a resume is stored, its text layer is extracted with PDFBox on a dedicated, fixed-size
+ * pool with a bounded queue, and matched against the skill dictionary (see {@link SkillExtractor}).
+ * The skills found replace the ones sent with the upload in both the GridFS file metadata and the
+ * user's resume profile, so a profile only keeps client-asserted skills while the file could not be
+ * parsed (REJECTED, TOO_LARGE or FAILED). The upload request never waits for parsing.
+ * Progress is recorded in the file metadata ('extractionStatus') and read by {@link #getStatus(String, String)}.
+ */
+@Service
+public class ResumeExtractionService {
+
+    // Values of the 'extractionStatus' metadata field
+    public static final String PENDING = "PENDING";
+    public static final String EXTRACTING = "EXTRACTING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String REJECTED = "REJECTED"; // Queue full; the uploaded skills are kept as sent
+    public static final String TOO_LARGE = "TOO_LARGE"; // Over max-file-bytes; never parsed, the uploaded skills are kept
+    public static final String DISABLED = "DISABLED";
+
+    private static final String FILES_COLLECTION = "fs.files"; // Default GridFS bucket
+
+    private final GridFsTemplate gridFsTemplate;
+    private final GridFsOperations gridFsOperations;
+    private final MongoTemplate mongoTemplate;
+    private final SkillExtractor skillExtractor;
+    private final UserService userService;
+    private final RecommendationCache recommendationCache;
+    private final ApplicantSkillIndex applicantSkillIndex;
+    private final ThreadPoolExecutor pool;
+    private final boolean enabled;
+    private final int maxPages; // Only the first pages are parsed; a resume's skills are rarely further back
+    private final long maxFileBytes; // Larger files are not queued: the whole file is buffered while parsing
+    private final long maxMemoryBytes; // Cap on PDFBox's scratch memory for decoded streams, per document
+
+    private final Timer extractionTimer;
+    private final Counter rejected;
+
+    @Autowired
+    public ResumeExtractionService(GridFsTemplate gridFsTemplate, GridFsOperations gridFsOperations,
+                                   MongoTemplate mongoTemplate, SkillExtractor skillExtractor,
+                                   UserService userService, RecommendationCache recommendationCache,
+                                   ApplicantSkillIndex applicantSkillIndex,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${resumes.extraction.enabled:true}") boolean enabled,
+                                   @Value("${resumes.extraction.pool-size:2}") int poolSize,
+                                   @Value("${resumes.extraction.queue-capacity:500}") int queueCapacity,
+                                   @Value("${resumes.extraction.max-pages:20}") int maxPages,
+                                   @Value("${resumes.extraction.max-file-bytes:5242880}") long maxFileBytes,
+                                   @Value("${resumes.extraction.max-memory-bytes:67108864}") long maxMemoryBytes) {
+        this.gridFsTemplate = gridFsTemplate;
+        this.gridFsOperations = gridFsOperations;
+        this.mongoTemplate = mongoTemplate;
+        this.skillExtractor = skillExtractor;
+        this.userService = userService;
+        this.recommendationCache = recommendationCache;
+        this.applicantSkillIndex = applicantSkillIndex;
+        this.enabled = enabled;
+        this.maxPages = maxPages;
+        this.maxFileBytes = maxFileBytes;
+        this.maxMemoryBytes = maxMemoryBytes;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // AbortPolicy (the default) throws RejectedExecutionException once the queue is full
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "resume-extraction-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.extractionTimer = Timer.builder("resumes.extraction")
+                .description("Time to extract and match the text of a resume PDF")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("resumes.extraction.rejected")
+                .description("Extractions skipped because the extraction queue was full")
+                .register(meterRegistry);
+        Gauge.builder("resumes.extraction.queue.depth", pool, executor -> executor.getQueue().size())
+                .description("Resumes waiting for extraction")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return The status to store with a newly uploaded resume: PENDING, or DISABLED when
+     * server-side extraction is switched off.
+     */
+    public String initialStatus() {
+        return enabled ? PENDING : DISABLED;
+    }
+
+    /**
+     * Queues a stored resume for extraction and returns immediately.
+     * Must be called after the user's profile points at the file, so the result can be applied.
+     *
+     * @param username The owner of the resume.
+     * @param fileId The GridFS ID of the stored resume.
+     * @param uploadedSkills The normalized skills sent with the upload; they stay on the profile until the
+     *                       extracted skills replace them, and for good if the extraction does not complete.
+     * @param fileSize The size of the stored file in bytes.
+     * @return The resulting status: PENDING, TOO_LARGE if the file exceeds max-file-bytes, REJECTED
+     * if the queue is full, or DISABLED.
+     */
+    public String submit(String username, String fileId, List<String> uploadedSkills, long fileSize) {
+        if (!enabled) {
+            return DISABLED;
+        }
+        if (fileSize > maxFileBytes) {
+            System.err.println("Resume of " + username + " is " + fileSize + " bytes; not extracting files over "
+                    + maxFileBytes + " bytes");
+            setStatus(fileId, new Update().set("metadata.extractionStatus", TOO_LARGE));
+            return TOO_LARGE;
+        }
+        try {
+            pool.execute(() -> extract(username, fileId, uploadedSkills));
+            return PENDING;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            System.err.println("Resume extraction queue is full; keeping the uploaded skills for " + username);
+            setStatus(fileId, new Update().set("metadata.extractionStatus", REJECTED));
+            return REJECTED;
+        }
+    }
+
+    /**
+     * Reads the extraction progress of a resume from its file metadata.
+     * Only the resume's owner may see it; other users' resumes are reported as not found, so the
+     * status cannot be used to probe which file IDs exist.
+     *
+     * @param gridFsId The GridFS ID of the resume.
+     * @param username The caller, who must own the resume.
+     * @return The status, its last change and, once completed, the resulting skills;
+     * empty if no such file exists or it belongs to someone else.
+     */
+    public Optional<Map<String, Object>> getStatus(String gridFsId, String username) {
+        if (gridFsId == null || !ObjectId.isValid(gridFsId) || username == null) {
+            return Optional.empty();
+        }
+        GridFSFile file = gridFsTemplate.findOne(new Query(Criteria.where("_id").is(new ObjectId(gridFsId))
+                .and("metadata.username").is(username)));
+        if (file == null) {
+            return Optional.empty();
+        }
+        Document metadata = file.getMetadata() != null ? file.getMetadata() : new Document();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("gridFsId", gridFsId);
+        status.put("status", metadata.getString("extractionStatus") != null
+                ? metadata.getString("extractionStatus") : DISABLED); // Uploaded before the pipeline existed
+        status.put("updatedAt", metadata.get("extractionUpdatedAt"));
+        if (COMPLETED.equals(metadata.getString("extractionStatus"))) {
+            status.put("extractedSkills", metadata.get("extractedSkills"));
+            status.put("pagesParsed", metadata.get("extractionPages"));
+        }
+        if (metadata.getString("extractionError") != null) {
+            status.put("error", metadata.getString("extractionError"));
+        }
+        return Optional.of(status);
+    }
+
+    /**
+     * @return Pool size, queue depth, active and completed extractions, and rejections.
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("poolSize", pool.getMaximumPoolSize());
+        stats.put("active", pool.getActiveCount());
+        stats.put("queueDepth", pool.getQueue().size());
+        stats.put("completed", extractionTimer.count());
+        stats.put("rejected", (long) rejected.count());
+        stats.put("avgExtractionMillis", extractionTimer.mean(TimeUnit.MILLISECONDS));
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow(); // Queued extractions stay PENDING; the uploaded skills remain in effect
+    }
+
+    /**
+     * Runs on the extraction pool: parses the PDF, matches its text and replaces the uploaded skills
+     * with the skills found. On failure the uploaded skills are left in place.
+     */
+    private void extract(String username, String fileId, List<String> uploadedSkills) {
+        long startNanos = System.nanoTime();
+        try {
+            GridFSFile file = gridFsTemplate.findOne(new Query(Criteria.where("_id").is(new ObjectId(fileId))));
+            if (file == null) {
+                System.out.println("Resume " + fileId + " of " + username + " was replaced before extraction.");
+                return;
+            }
+            setStatus(fileId, new Update().set("metadata.extractionStatus", EXTRACTING));
+
+            if (file.getLength() > maxFileBytes) {
+                throw new IOException("File exceeds " + maxFileBytes + " bytes"); // Checked at submit; defensive
+            }
+            String text;
+            int pages;
+            // The buffer holds at most maxFileBytes; decoded streams may use at most maxMemoryBytes on top
+            try (InputStream content = gridFsOperations.getResource(file).getInputStream();
+                 PDDocument document = Loader.loadPDF(new RandomAccessReadBuffer(content),
+                         MemoryUsageSetting.setupMainMemoryOnly(maxMemoryBytes).streamCache)) {
+                pages = Math.min(document.getNumberOfPages(), maxPages);
+                PDFTextStripper stripper = new PDFTextStripper();
+                stripper.setEndPage(pages);
+                text = stripper.getText(document);
+            }
+
+            // Only what the server found in the file; skills the client merely asserted are dropped
+            List<String> extractedSkills = skillExtractor.extractSkills(text); // Distinct, in order of first mention
+
+            setStatus(fileId, new Update()
+                    .set("metadata.extractedSkills", extractedSkills)
+                    .set("metadata.extractionPages", pages)
+                    .set("metadata.extractionStatus", COMPLETED));
+
+            // Only while this file is still the user's current resume
+            Query userQuery = new Query(Criteria.where("username").is(username).and("resumeGridFsId").is(fileId));
+            if (mongoTemplate.updateFirst(userQuery, new Update().set("resumeSkills", extractedSkills), User.class)
+                    .getModifiedCount() > 0) {
+                userService.evictFromCache(username);
+                recommendationCache.invalidate(username); // New skills, new ranking
+                applicantSkillIndex.put(username, fileId, extractedSkills);
+            }
+            System.out.println("Extracted " + extractedSkills.size() + " skills from " + pages
+                    + " pages of the resume of " + username + ", replacing " + uploadedSkills.size() + " uploaded skills");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Resume extraction failed for user " + username + ": " + e.getMessage());
+            setStatus(fileId, new Update()
+                    .set("metadata.extractionStatus", FAILED)
+                    .set("metadata.extractionError", e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+        } finally {
+            extractionTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void setStatus(String fileId, Update update) {
+        try {
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(new ObjectId(fileId))),
+                    update.set("metadata.extractionUpdatedAt", new Date()), FILES_COLLECTION);
+        } catch (RuntimeException e) {
+            System.err.println("Error recording extraction status of resume " + fileId + ": " + e.getMessage());
+        }
+    }
+}
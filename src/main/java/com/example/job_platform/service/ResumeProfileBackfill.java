@@ -0,0 +1,104 @@
+// src/main/java/com/example/job_platform/service/ResumeProfileBackfill.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.model.User;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * One-off migration that copies resume skills and summary from the GridFS file metadata onto
+ * the user document for users who uploaded a resume before the profile was denormalized.
+ * It runs once the application is ready, only touches users still missing {@code resumeSkills},
+ * and is therefore safe to leave enabled: after the first complete run it finds nothing to do.
+ */
+@Component
+public class ResumeProfileBackfill {
+
+    private final MongoTemplate mongoTemplate;
+    private final GridFsTemplate gridFsTemplate;
+    private final UserService userService;
+    private final ApplicantSkillIndex applicantSkillIndex;
+    private final boolean enabled;
+
+    @Autowired
+    public ResumeProfileBackfill(MongoTemplate mongoTemplate, GridFsTemplate gridFsTemplate, UserService userService,
+                                 ApplicantSkillIndex applicantSkillIndex,
+                                 @Value("${migrations.resume-profile-backfill.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.gridFsTemplate = gridFsTemplate;
+        this.userService = userService;
+        this.applicantSkillIndex = applicantSkillIndex;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Backfills {@code resumeSkills} and {@code resumeSummary} for every user with a resume but no
+     * denormalized profile. Errors are logged and leave the remaining users for the next start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        Query pending = new Query(Criteria.where("resumeGridFsId").ne(null).and("resumeSkills").exists(false));
+        pending.fields().include("_id").include("username").include("section").include("resumeGridFsId");
+
+        long backfilled = 0;
+        try (Stream<User> users = mongoTemplate.stream(pending, User.class)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                List<String> skills = new ArrayList<>();
+                String summary = null;
+
+                GridFSFile file = ObjectId.isValid(user.getResumeGridFsId())
+                        ? gridFsTemplate.findOne(new Query(Criteria.where("_id").is(new ObjectId(user.getResumeGridFsId()))))
+                        : null;
+                if (file != null && file.getMetadata() != null) {
+                    Document metadata = file.getMetadata();
+                    if (metadata.get("extractedSkills") instanceof List<?> storedSkills) {
+                        List<String> rawSkills = new ArrayList<>();
+                        for (Object skill : storedSkills) {
+                            if (skill != null) {
+                                rawSkills.add(skill.toString());
+                            }
+                        }
+                        // The old upload only trimmed and lowercased, keeping empty entries and duplicates
+                        skills = SkillDictionary.normalizeSkills(rawSkills);
+                    }
+                    summary = metadata.getString("resumeSummary");
+                }
+
+                // Only fill in users that are still missing the profile (an upload may have raced us)
+                boolean updated = mongoTemplate.updateFirst(
+                        new Query(Criteria.where("_id").is(user.getId()).and("resumeSkills").exists(false)),
+                        new Update().set("resumeSkills", skills).set("resumeSummary", summary),
+                        User.class).getModifiedCount() > 0;
+                userService.evictFromCache(user.getUsername());
+                if (updated && "Apply".equalsIgnoreCase(user.getSection())) {
+                    // Missed by the applicant index's own build, which only loads users with a profile
+                    applicantSkillIndex.put(user.getUsername(), user.getResumeGridFsId(), skills);
+                }
+                backfilled++;
+            }
+            if (backfilled > 0) {
+                System.out.println("Backfilled resume profile for " + backfilled + " users.");
+            }
+        } catch (Exception e) {
+            System.err.println("Resume profile backfill stopped after " + backfilled + " users: " + e.getMessage());
+        }
+    }
+}
@@ -1,31 +1,35 @@
 // src/main/java/com/example/job_platform/service/ResumeService.java
 package com.example.job_platform.service;
 
+import com.example.job_platform.dto.AuthenticatedUser;
 import com.example.job_platform.dto.JobRecommendation; // Import the new DTO
-import com.example.job_platform.model.JobPosting; // Import JobPosting model
 import com.example.job_platform.model.User;
-import com.example.job_platform.repository.UserRepository;
 import com.mongodb.BasicDBObject;
 import com.mongodb.client.gridfs.model.GridFSFile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.gridfs.GridFsOperations;
 import org.springframework.data.mongodb.gridfs.GridFsTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList; // For building the list of recommendations
-import java.util.Arrays;
-import java.util.Comparator; // For sorting recommendations
-import java.util.HashSet; // For efficient skill comparison
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors; // For stream operations
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service for managing resume uploads to MongoDB GridFS and updating user records.
@@ -37,19 +41,62 @@ public class ResumeService {
 
     private final GridFsTemplate gridFsTemplate;
     private final GridFsOperations gridFsOperations;
-    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate; // Swaps the user's resume fields in one round trip
     private final UserService userService;
-    private final JobPostingService jobPostingService; // Inject JobPostingService
+    private final JobSkillIndex jobSkillIndex; // Inverted skill index over all job postings
+    private final SkillDictionary skillDictionary; // Maps skill names to the IDs used for scoring
+    private final RecommendationCache recommendationCache; // Per-applicant cache of top recommendations
+    private final ResumeExtractionService resumeExtractionService; // Parses stored PDFs in the background
+    private final ApplicantSkillIndex applicantSkillIndex; // Reverse index: skill -> applicants
+    private final ScoringMode defaultScoringMode; // Used when a request does not choose one
+
+    private final Timer profileFetchTimer; // First ranking stage; job-scan and sort are timed by JobSkillIndex
+    private final Timer uploadTimer;
+    private final DistributionSummary uploadSizeSummary;
 
     @Autowired
     public ResumeService(GridFsTemplate gridFsTemplate, GridFsOperations gridFsOperations,
-                         UserRepository userRepository, UserService userService,
-                         JobPostingService jobPostingService) { // Add JobPostingService to constructor
+                         MongoTemplate mongoTemplate, UserService userService,
+                         JobSkillIndex jobSkillIndex, SkillDictionary skillDictionary,
+                         RecommendationCache recommendationCache,
+                         ResumeExtractionService resumeExtractionService, ApplicantSkillIndex applicantSkillIndex,
+                         MeterRegistry meterRegistry,
+                         ScoringMode defaultScoringMode) {
         this.gridFsTemplate = gridFsTemplate;
         this.gridFsOperations = gridFsOperations;
-        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
         this.userService = userService;
-        this.jobPostingService = jobPostingService; // Initialize
+        this.jobSkillIndex = jobSkillIndex;
+        this.skillDictionary = skillDictionary;
+        this.recommendationCache = recommendationCache;
+        this.resumeExtractionService = resumeExtractionService;
+        this.applicantSkillIndex = applicantSkillIndex;
+        this.defaultScoringMode = defaultScoringMode;
+        this.profileFetchTimer = recommendationStageTimer(meterRegistry, "profile-fetch");
+        this.uploadTimer = Timer.builder("resumes.upload")
+                .description("Time to store a resume in GridFS")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.uploadSizeSummary = DistributionSummary.builder("resumes.upload.size")
+                .description("Size of uploaded resumes")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers (or looks up) the timer of one recommendation ranking stage.
+     *
+     * @param meterRegistry The registry.
+     * @param stage "profile-fetch", "job-scan" or "sort".
+     * @return The stage's timer, with a percentile histogram.
+     */
+    static Timer recommendationStageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("recommendations.stage")
+                .description("Time spent per stage of ranking job recommendations on a cache miss")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
@@ -72,10 +119,31 @@ public class ResumeService {
             return Optional.empty();
         }
 
-        User user = userOptional.get();
+        return uploadResume(AuthenticatedUser.of(userOptional.get()), file, extractedSkills, resumeSummary);
+    }
 
-        if (!"Apply".equalsIgnoreCase(user.getSection())) {
-            System.err.println("Resume upload failed: User " + username + " is not authorized to upload resumes (Section: " + user.getSection() + ").");
+    /**
+     * Uploads a resume PDF for an already authenticated applicant, without loading the user first:
+     * the user's resume fields are replaced with a single findAndModify, which also returns the
+     * previous resume ID so the old file can be deleted.
+     * Returns as soon as the file is stored; the PDF's text is then matched against the skill
+     * dictionary in the background (see {@link ResumeExtractionService}). Once an extraction
+     * completes, the skills it finds replace the ones sent with the upload; those stay on the profile
+     * only when the extraction is REJECTED, TOO_LARGE or FAILED.
+     *
+     * @param applicant The applicant, e.g. from the request's JWT.
+     * @param file The resume file (MultipartFile).
+     * @param extractedSkills A comma-separated string of skills extracted from the resume.
+     * @param resumeSummary A brief summary/keywords from the resume.
+     * @return The ID of the stored GridFS file if successful, or Optional.empty() if the user
+     * no longer exists, is not an "Apply" user, or upload fails.
+     */
+    public Optional<String> uploadResume(AuthenticatedUser applicant, MultipartFile file,
+                                         String extractedSkills, String resumeSummary) {
+        String username = applicant.getUsername();
+
+        if (!applicant.isApplicant()) {
+            System.err.println("Resume upload failed: User " + username + " is not authorized to upload resumes (Section: " + applicant.getSection() + ").");
             return Optional.empty();
         }
 
@@ -84,41 +152,62 @@ public class ResumeService {
             return Optional.empty();
         }
 
-        if (user.getResumeGridFsId() != null && !user.getResumeGridFsId().isEmpty()) {
-            try {
-                gridFsTemplate.delete(new Query(Criteria.where("_id").is(user.getResumeGridFsId())));
-                System.out.println("Deleted old resume for user: " + username);
-            } catch (Exception e) {
-                System.err.println("Error deleting old resume for user " + username + ": " + e.getMessage());
-            }
-        }
+        // Normalize skills once; they are stored both in the GridFS metadata and on the user document
+        List<String> normalizedSkills = SkillDictionary.parseSkillList(extractedSkills); // Empty list if no skills
 
+        Object fileId;
+        long storeStartNanos = System.nanoTime();
         try {
-            Object fileId = gridFsTemplate.store(
+            fileId = gridFsTemplate.store(
                     file.getInputStream(),
                     file.getOriginalFilename(),
                     file.getContentType(),
                     new BasicDBObject()
                             .append("username", username)
-                            .append("extractedSkills", extractedSkills != null ?
-                                    Arrays.stream(extractedSkills.split(","))
-                                            .map(String::trim) // Trim whitespace from skills
-                                            .map(String::toLowerCase) // Convert to lowercase for case-insensitive matching
-                                            .collect(Collectors.toList()) :
-                                    new ArrayList<>()) // Store an empty list if no skills
+                            .append("extractedSkills", normalizedSkills)
                             .append("resumeSummary", resumeSummary)
+                            .append("extractionStatus", resumeExtractionService.initialStatus())
             );
-
-            user.setResumeGridFsId(fileId.toString());
-            userRepository.save(user);
-
-            System.out.println("Resume uploaded successfully for user: " + username + " with GridFS ID: " + fileId);
-            return Optional.of(fileId.toString());
-
         } catch (IOException e) {
             System.err.println("Error uploading resume for user " + username + ": " + e.getMessage());
             return Optional.empty();
         }
+        uploadTimer.record(System.nanoTime() - storeStartNanos, TimeUnit.NANOSECONDS);
+        uploadSizeSummary.record(file.getSize());
+
+        // Denormalize the resume profile onto the user so reads need a single document fetch;
+        // the user as it was before the update tells us which resume to delete
+        Query userQuery = new Query(Criteria.where("username").is(username));
+        userQuery.fields().include("resumeGridFsId");
+        User previous = mongoTemplate.findAndModify(userQuery,
+                new Update()
+                        .set("resumeGridFsId", fileId.toString())
+                        .set("resumeSkills", normalizedSkills)
+                        .set("resumeSummary", resumeSummary),
+                User.class);
+        if (previous == null) {
+            System.err.println("Resume upload failed: User " + username + " not found.");
+            gridFsTemplate.delete(new Query(Criteria.where("_id").is(fileId)));
+            return Optional.empty();
+        }
+        userService.evictFromCache(username);
+        recommendationCache.invalidate(username); // New skills, new ranking
+        applicantSkillIndex.put(username, fileId.toString(), normalizedSkills);
+
+        if (previous.getResumeGridFsId() != null && !previous.getResumeGridFsId().isEmpty()) {
+            try {
+                gridFsTemplate.delete(new Query(Criteria.where("_id").is(previous.getResumeGridFsId())));
+                System.out.println("Deleted old resume for user: " + username);
+            } catch (Exception e) {
+                System.err.println("Error deleting old resume for user " + username + ": " + e.getMessage());
+            }
+        }
+
+        // Queued only now that the user's profile points at the new file
+        resumeExtractionService.submit(username, fileId.toString(), normalizedSkills, file.getSize());
+
+        System.out.println("Resume uploaded successfully for user: " + username + " with GridFS ID: " + fileId);
+        return Optional.of(fileId.toString());
     }
 
     /**
@@ -128,13 +217,38 @@ public class ResumeService {
      * @return An Optional containing the GridFSFile object if found.
      */
     public Optional<GridFSFile> getResumeFile(String gridFsId) {
-        if (gridFsId == null || gridFsId.isEmpty()) {
+        if (gridFsId == null || !ObjectId.isValid(gridFsId)) {
             return Optional.empty();
         }
         Query query = new Query(Criteria.where("_id").is(new ObjectId(gridFsId)));
         return Optional.ofNullable(gridFsTemplate.findOne(query));
     }
 
+    /**
+     * Checks whether a caller may download a stored resume: its owner, or any "Post" user
+     * (posters review applicants' resumes).
+     *
+     * @param caller The caller authenticated from the bearer token.
+     * @param file The GridFS file, as returned by {@link #getResumeFile(String)}.
+     * @return true if the caller may read the file.
+     */
+    public boolean canReadResume(AuthenticatedUser caller, GridFSFile file) {
+        String owner = file.getMetadata() != null ? file.getMetadata().getString("username") : null;
+        return caller.isPoster() || caller.getUsername().equals(owner);
+    }
+
+    /**
+     * Wraps a stored resume file as a Resource whose content is read from GridFS chunk by chunk.
+     * Every {@link Resource#getInputStream()} call opens a fresh download stream, so the resource
+     * can be read more than once (e.g. for multi-part Range responses) and is never fully buffered.
+     *
+     * @param file The GridFS file, as returned by {@link #getResumeFile(String)}.
+     * @return A re-readable Resource with a known content length.
+     */
+    public Resource getResumeContent(GridFSFile file) {
+        return new GridFsFileResource(file, gridFsOperations);
+    }
+
     /**
      * Retrieves resume metadata (skills, summary) for a given user.
      *
@@ -143,18 +257,36 @@ public class ResumeService {
      * if a resume is found and has metadata, otherwise empty.
      */
     public Optional<Map<String, Object>> getResumeMetadata(String username) {
-        Optional<User> userOptional = userService.findByUsername(username);
-        if (userOptional.isEmpty() || userOptional.get().getResumeGridFsId() == null || userOptional.get().getResumeGridFsId().isEmpty()) {
+        return userService.findByUsername(username).flatMap(this::getResumeMetadata);
+    }
+
+    /**
+     * Retrieves resume metadata (skills, summary) from an already loaded user.
+     * The profile is read from the user document; only users whose profile has not been
+     * backfilled yet (see {@link ResumeProfileBackfill}) fall back to the GridFS file metadata.
+     *
+     * @param user The user.
+     * @return A Map containing "extractedSkills" (List<String>) and "resumeSummary" (String)
+     * if a resume is found and has metadata, otherwise empty.
+     */
+    public Optional<Map<String, Object>> getResumeMetadata(User user) {
+        if (user.getResumeGridFsId() == null || user.getResumeGridFsId().isEmpty()) {
             return Optional.empty();
         }
 
-        String gridFsId = userOptional.get().getResumeGridFsId();
-        Optional<GridFSFile> gridFSFileOptional = getResumeFile(gridFsId);
+        Map<String, Object> metadata = new java.util.HashMap<>();
+        if (user.getResumeSkills() != null) {
+            metadata.put("extractedSkills", user.getResumeSkills());
+            if (user.getResumeSummary() != null) {
+                metadata.put("resumeSummary", user.getResumeSummary());
+            }
+            return Optional.of(metadata);
+        }
 
+        Optional<GridFSFile> gridFSFileOptional = getResumeFile(user.getResumeGridFsId());
         if (gridFSFileOptional.isPresent()) {
             GridFSFile file = gridFSFileOptional.get();
             if (file.getMetadata() != null) {
-                Map<String, Object> metadata = new java.util.HashMap<>();
                 if (file.getMetadata().containsKey("extractedSkills")) {
                     // GridFS metadata stores Lists, so direct cast is fine
                     metadata.put("extractedSkills", file.getMetadata().get("extractedSkills"));
@@ -169,72 +301,159 @@ public class ResumeService {
     }
 
     /**
-     * Provides a list of recommended job postings for a specific applicant based on their resume skills.
+     * Provides one page of recommended job postings for a specific applicant based on their resume skills.
+     * Only the best {@code offset + limit} matches are kept in a bounded heap while scoring,
+     * so the full candidate list is never sorted or returned.
      *
      * @param applicantUsername The username of the applicant.
+     * @param limit The maximum number of recommendations to return.
+     * @param offset The number of top-ranked recommendations to skip.
+     * @param mode How skills are weighted in the match score.
      * @return A list of JobRecommendation DTOs, sorted by match score in descending order.
      * Returns an empty list if the applicant is not found, not an "Apply" user,
      * or no resume data (skills) is available.
      */
-    public List<JobRecommendation> getRecommendedJobsForApplicant(String applicantUsername) {
+    public List<JobRecommendation> getRecommendedJobsForApplicant(String applicantUsername, int limit, int offset,
+                                                                  ScoringMode mode) {
+        if (limit <= 0 || offset < 0) {
+            return new ArrayList<>();
+        }
+        // A cached ranking needs no user document at all
+        Optional<List<JobRecommendation>> cached = recommendationCache.get(applicantUsername, mode, offset, limit);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // Read before loading the applicant, so a resume upload in between keeps the ranking out of the cache
+        long cacheVersion = recommendationCache.currentVersion();
+        long profileFetchStartNanos = System.nanoTime();
+        Optional<User> applicantOptional = userService.findByUsername(applicantUsername);
+        if (applicantOptional.isEmpty()) {
+            System.out.println("Applicant not found for recommendations: " + applicantUsername);
+            return new ArrayList<>();
+        }
+        return rankForApplicant(applicantOptional.get(), limit, offset, mode, cacheVersion, profileFetchStartNanos);
+    }
+
+    /**
+     * Provides one page of recommended job postings for an already loaded applicant,
+     * without fetching the user again.
+     *
+     * @param applicant The applicant's user document.
+     * @param limit The maximum number of recommendations to return.
+     * @param offset The number of top-ranked recommendations to skip.
+     * @param mode How skills are weighted in the match score.
+     * @param cacheVersion The value of {@link #recommendationCacheVersion()} read before the applicant
+     *                     was loaded; the ranking is only cached if no write happened since.
+     * @return A list of JobRecommendation DTOs, sorted by match score in descending order.
+     */
+    public List<JobRecommendation> getRecommendedJobsForApplicant(User applicant, int limit, int offset,
+                                                                  ScoringMode mode, long cacheVersion) {
+        if (limit <= 0 || offset < 0) {
+            return new ArrayList<>();
+        }
+        Optional<List<JobRecommendation>> cached = recommendationCache.get(applicant.getUsername(), mode, offset, limit);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return rankForApplicant(applicant, limit, offset, mode, cacheVersion, System.nanoTime());
+    }
+
+    /**
+     * @return The recommendation cache's write version; read it before loading an applicant passed to
+     * {@link #getRecommendedJobsForApplicant(User, int, int, ScoringMode, long)}.
+     */
+    public long recommendationCacheVersion() {
+        return recommendationCache.currentVersion();
+    }
+
+    /**
+     * @return The scoring mode used when a request does not choose one
+     * ({@code recommendations.scoring.default-mode}).
+     */
+    public ScoringMode getDefaultScoringMode() {
+        return defaultScoringMode;
+    }
+
+    /**
+     * Ranks the job postings for an applicant after a cache miss and caches the ranking.
+     * Package-private for {@link ReactiveJobService}, which checks the cache itself before
+     * fetching the user.
+     *
+     * @param mode How skills are weighted in the match score.
+     * @param cacheVersion The cache's write version read before the applicant was loaded. Reading it
+     *                     any later would let a ranking of skills replaced in between be cached.
+     * @param profileFetchStartNanos When fetching the applicant's profile started, for the
+     *                               profile-fetch stage timer.
+     */
+    List<JobRecommendation> rankForApplicant(User applicant, int limit, int offset, ScoringMode mode,
+                                             long cacheVersion, long profileFetchStartNanos) {
         List<JobRecommendation> recommendations = new ArrayList<>();
+        String applicantUsername = applicant.getUsername();
 
         // 1. Get applicant's extracted skills
-        Optional<Map<String, Object>> resumeMetadataOptional = getResumeMetadata(applicantUsername);
+        Optional<Map<String, Object>> resumeMetadataOptional = getResumeMetadata(applicant);
+        profileFetchTimer.record(System.nanoTime() - profileFetchStartNanos, TimeUnit.NANOSECONDS);
         if (resumeMetadataOptional.isEmpty() || !resumeMetadataOptional.get().containsKey("extractedSkills")) {
             System.out.println("No skills found in resume for applicant: " + applicantUsername);
             return recommendations; // No skills, no recommendations
         }
 
-        // Convert extracted skills to a Set for efficient lookup
+        // Map the extracted skills to sorted skill IDs; skills no posting requires are dropped
         @SuppressWarnings("unchecked")
         List<String> applicantSkillsList = (List<String>) resumeMetadataOptional.get().get("extractedSkills");
-        Set<String> applicantSkills = new HashSet<>(applicantSkillsList);
+        int[] applicantSkillIds = skillDictionary.toSortedIds(applicantSkillsList, false);
 
-        if (applicantSkills.isEmpty()) {
-            System.out.println("Applicant " + applicantUsername + " has no extracted skills for recommendation.");
+        if (applicantSkillIds.length == 0) {
+            System.out.println("Applicant " + applicantUsername + " has no extracted skills matching any job posting.");
             return recommendations;
         }
 
-        // 2. Get all available job postings
-        List<JobPosting> allJobs = jobPostingService.getAllJobPostings();
-        if (allJobs.isEmpty()) {
-            System.out.println("No job postings available for recommendation.");
-            return recommendations; // No jobs, no recommendations
-        }
+        // 2. Score only the postings sharing at least one skill, keeping the top (offset + limit),
+        // and cache that whole window so later pages and reloads skip the ranking
+        int depth = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        List<JobRecommendation> ranking = jobSkillIndex.topMatches(applicantSkillIds, 0, depth, mode);
+        recommendationCache.put(applicantUsername, mode, applicantSkillsList, ranking, depth, cacheVersion);
+        List<JobRecommendation> page = offset >= ranking.size()
+                ? new ArrayList<>()
+                : new ArrayList<>(ranking.subList(offset, ranking.size()));
 
-        // 3. Compare applicant skills with job skills and calculate score
-        for (JobPosting job : allJobs) {
-            if (job.getSkills() != null && !job.getSkills().isEmpty()) {
-                Set<String> jobSkills = job.getSkills().stream()
-                        .map(String::trim)
-                        .map(String::toLowerCase)
-                        .collect(Collectors.toSet());
+        System.out.println("Generated " + page.size() + " recommendations for " + applicantUsername
+                + " (limit " + limit + ", offset " + offset + ", scoring " + mode.key() + ")");
+        return page;
+    }
 
-                int commonSkills = 0;
-                for (String skill : applicantSkills) {
-                    if (jobSkills.contains(skill)) {
-                        commonSkills++;
-                    }
-                }
+    /**
+     * Re-readable view of a GridFS file. Content length and filename come from the file document,
+     * so only actual reads touch the chunks collection.
+     */
+    private static final class GridFsFileResource extends AbstractResource {
+        private final GridFSFile file;
+        private final GridFsOperations gridFsOperations;
 
-                // Simple match score: number of common skills / total unique skills required by job
-                // Or / total unique skills of applicant, or a combination.
-                // For simplicity, let's use ratio of common skills to total skills required by job.
-                // Avoid division by zero.
-                double matchScore = (jobSkills.size() > 0) ? (double) commonSkills / jobSkills.size() : 0.0;
-                matchScore = Math.round(matchScore * 100.0) / 100.0; // Round to 2 decimal places
+        private GridFsFileResource(GridFSFile file, GridFsOperations gridFsOperations) {
+            this.file = file;
+            this.gridFsOperations = gridFsOperations;
+        }
 
-                if (matchScore > 0) { // Only add jobs with some match
-                    recommendations.add(new JobRecommendation(job, matchScore));
-                }
-            }
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return gridFsOperations.getResource(file).getInputStream();
         }
 
-        // 4. Sort recommendations by match score (descending)
-        recommendations.sort(Comparator.comparingDouble(JobRecommendation::getMatchScore).reversed());
+        @Override
+        public long contentLength() {
+            return file.getLength();
+        }
 
-        System.out.println("Generated " + recommendations.size() + " recommendations for " + applicantUsername);
-        return recommendations;
+        @Override
+        public String getFilename() {
+            return file.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return "GridFS file [" + file.getObjectId().toHexString() + "]";
+        }
     }
 }
@@ -0,0 +1,50 @@
+// src/main/java/com/example/job_platform/service/ScoringMode.java
+package com.example.job_platform.service;
+
+import java.util.Locale;
+
+/**
+ * How a job posting's match score against an applicant's skills is computed.
+ * Both modes give the share of the job's required skills the applicant has, in [0, 1],
+ * rounded to 2 decimals; they differ in how much each skill counts.
+ */
+public enum ScoringMode {
+
+    /**
+     * Every skill counts the same: common skills / skills required by the job.
+     */
+    OVERLAP,
+
+    /**
+     * Skills are weighted by their inverse document frequency across the indexed postings,
+     * ln((N + 1) / (df + 1)) + 1, so a match on a rare skill ("kafka") counts for more than one
+     * on a skill most postings list ("communication").
+     */
+    IDF;
+
+    /**
+     * @return The request parameter / cache key form ("overlap" or "idf").
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT); // Not the default locale: "IDF" would become "ıdf" in Turkish
+    }
+
+    /**
+     * Parses a request parameter or property value, case-insensitively.
+     *
+     * @param value The value, may be null or blank.
+     * @param fallback The mode to use when no value is given.
+     * @return The mode, the fallback for a missing value, or null for an unknown value.
+     */
+    public static ScoringMode fromParameter(String value, ScoringMode fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        for (ScoringMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,182 @@
+// src/main/java/com/example/job_platform/service/SkillDictionary.java
+package com.example.job_platform.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Global dictionary mapping each canonical (trimmed, lowercase) skill name to a dense int ID.
+ * Job and resume skills are stored as sorted int arrays of these IDs, so match scoring is an
+ * intersection count over primitives instead of String hashing and comparison.
+ * IDs are assigned on first sight and never reused while the process runs.
+ */
+@Component
+public class SkillDictionary {
+
+    private final Map<String, Integer> idsBySkill = new ConcurrentHashMap<>();
+    private volatile String[] skillsById = new String[256]; // Reverse lookup, grown under the lock
+    private int size; // Number of assigned IDs, guarded by "this"
+
+    /**
+     * Canonicalizes a raw skill name: trims whitespace and lowercases it.
+     *
+     * @param skill The raw skill name, may be null.
+     * @return The canonical skill name, or an empty string for null/blank input.
+     */
+    public static String normalize(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits a comma-separated skill list (as sent with a resume upload) and normalizes each entry.
+     *
+     * @param commaSeparatedSkills The raw list, e.g. "Java, Spring,MongoDB"; may be null.
+     * @return The distinct trimmed, lowercased skills in input order, without empty entries;
+     * an empty list for null input.
+     */
+    public static List<String> parseSkillList(String commaSeparatedSkills) {
+        if (commaSeparatedSkills == null) {
+            return new ArrayList<>();
+        }
+        return normalizeSkills(Arrays.asList(commaSeparatedSkills.split(",")));
+    }
+
+    /**
+     * Normalizes a list of raw skill names, e.g. skills stored by an older version of the upload.
+     *
+     * @param skills The raw skill names; null entries are skipped.
+     * @return The distinct canonical skills in input order, without empty entries.
+     */
+    public static List<String> normalizeSkills(Collection<String> skills) {
+        return skills.stream()
+                .map(SkillDictionary::normalize)
+                .filter(skill -> !skill.isEmpty()) // "java,,spring" and trailing commas
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the ID of a canonical skill, assigning the next free ID if it is new.
+     *
+     * @param canonicalSkill A skill already passed through {@link #normalize(String)}.
+     * @return The dense skill ID.
+     */
+    public int idOf(String canonicalSkill) {
+        Integer id = idsBySkill.get(canonicalSkill);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = idsBySkill.get(canonicalSkill);
+            if (id != null) {
+                return id;
+            }
+            if (size == skillsById.length) {
+                skillsById = Arrays.copyOf(skillsById, size * 2);
+            }
+            skillsById[size] = canonicalSkill;
+            idsBySkill.put(canonicalSkill, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Returns the ID of a canonical skill without assigning one.
+     *
+     * @param canonicalSkill A skill already passed through {@link #normalize(String)}.
+     * @return The skill ID, or -1 if the skill has never been seen.
+     */
+    public int lookup(String canonicalSkill) {
+        Integer id = idsBySkill.get(canonicalSkill);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the canonical skill name for an ID.
+     *
+     * @param id A skill ID previously returned by this dictionary.
+     * @return The canonical skill name.
+     */
+    public String skillOf(int id) {
+        return skillsById[id];
+    }
+
+    /**
+     * @return The number of distinct skills known to the dictionary.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Converts raw skill names to a sorted, duplicate-free array of skill IDs.
+     *
+     * @param skills Raw skill names, may be null. Blank entries are ignored.
+     * @param register Whether unknown skills are assigned a new ID (for stored postings) or
+     *                 dropped (for lookups such as applicant skills, which can only match
+     *                 skills a posting has already registered).
+     * @return The sorted skill IDs.
+     */
+    public int[] toSortedIds(Collection<String> skills, boolean register) {
+        if (skills == null || skills.isEmpty()) {
+            return new int[0];
+        }
+        int[] ids = new int[skills.size()];
+        int count = 0;
+        for (String skill : skills) {
+            String canonical = normalize(skill);
+            if (canonical.isEmpty()) {
+                continue;
+            }
+            int id = register ? idOf(canonical) : lookup(canonical);
+            if (id >= 0) {
+                ids[count++] = id;
+            }
+        }
+        Arrays.sort(ids, 0, count);
+
+        // Drop duplicates in place
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Counts the IDs two sorted, duplicate-free skill arrays have in common.
+     *
+     * @param a The first sorted skill ID array.
+     * @param b The second sorted skill ID array.
+     * @return The size of the intersection.
+     */
+    public static int intersectionCount(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            int x = a[i];
+            int y = b[j];
+            if (x == y) {
+                common++;
+                i++;
+                j++;
+            } else if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return common;
+    }
+}
@@ -0,0 +1,211 @@
+// src/main/java/com/example/job_platform/service/SkillExtractor.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.util.AhoCorasick;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds known skills named in free text: job descriptions, so postings whose 'skills' list is
+ * short are still matched by recommendations on everything the description mentions, and the
+ * text of uploaded resumes (see {@link ResumeExtractionService}).
+ * The dictionary is every skill listed by the poster of at least
+ * {@code jobs.skill-extraction.min-postings} indexed postings (see {@link JobSkillIndex}); skills a
+ * posting only has because they were extracted do not count, so extraction never reinforces
+ * itself. Skills are free text from any poster, so only plausible skill names enter the dictionary
+ * (see {@link #isDictionarySkill(String)}) and the patterns' total length is capped; with the
+ * automaton's bounded alphabet this bounds the rebuild's memory whatever posters register.
+ * The dictionary is compiled into an {@link AhoCorasick} automaton
+ * that scans a description in one pass. The automaton is rebuilt in the background when the
+ * index has changed, so ingestion never waits for a build.
+ */
+@Component
+public class SkillExtractor {
+
+    // Longest skill name that can enter the automaton; real skill names are far shorter
+    static final int MAX_SKILL_LENGTH = 40;
+
+    private final JobSkillIndex jobSkillIndex;
+    private final SkillDictionary skillDictionary;
+    private final boolean enabled; // Extraction from job descriptions at ingest
+    private final int minPostings; // Skills listed by fewer postings are not extracted (filters typos)
+    private final int maxSkills; // Bounds the automaton's memory; the most listed skills win
+    private final int maxPatternChars; // Total length of all patterns, i.e. the automaton's states
+
+    private final Timer extractionTimer;
+    private final Counter extractedSkills;
+
+    // Replaced wholesale by refresh(); readers never see a half-built automaton
+    private volatile Snapshot snapshot = new Snapshot(new AhoCorasick(List.of()), -1);
+
+    @Autowired
+    public SkillExtractor(JobSkillIndex jobSkillIndex, SkillDictionary skillDictionary, MeterRegistry meterRegistry,
+                          @Value("${jobs.skill-extraction.enabled:true}") boolean enabled,
+                          @Value("${jobs.skill-extraction.min-postings:2}") int minPostings,
+                          @Value("${jobs.skill-extraction.max-skills:20000}") int maxSkills,
+                          @Value("${jobs.skill-extraction.max-pattern-chars:200000}") int maxPatternChars) {
+        this.jobSkillIndex = jobSkillIndex;
+        this.skillDictionary = skillDictionary;
+        this.enabled = enabled;
+        this.minPostings = Math.max(1, minPostings);
+        this.maxSkills = maxSkills;
+        this.maxPatternChars = maxPatternChars;
+        this.extractionTimer = Timer.builder("jobs.skill-extraction")
+                .description("Time to scan a job description for known skills")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.extractedSkills = Counter.builder("jobs.skill-extraction.added")
+                .description("Skills found in descriptions that the poster did not list")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds the known skills named in a description to a posting's skill list.
+     * The poster's entries are kept as written; extracted skills are appended in canonical form,
+     * in order of first mention, unless the poster already listed them in any spelling.
+     * Only whole-word mentions count ("java" does not match inside "javascript", nor "c" inside "c++"
+     * or "c#"); words are delimited as by the search tokenizer.
+     *
+     * @param skills The skills listed by the poster, may be null.
+     * @param description The job description, may be null.
+     * @return The merged skill list (a new list).
+     */
+    public List<String> mergeExtractedSkills(List<String> skills, String description) {
+        List<String> merged = skills == null ? new ArrayList<>() : new ArrayList<>(skills);
+        AhoCorasick matcher = snapshot.matcher();
+        if (!enabled || description == null || description.isEmpty() || matcher.patternCount() == 0) {
+            return merged;
+        }
+
+        long startNanos = System.nanoTime();
+        Set<String> present = new HashSet<>();
+        for (String skill : merged) {
+            present.add(SkillDictionary.normalize(skill));
+        }
+        int listed = merged.size();
+        scan(matcher, description, present, merged);
+        extractionTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        extractedSkills.increment(merged.size() - listed);
+        return merged;
+    }
+
+    /**
+     * Finds the known skills named in a text, as whole words.
+     *
+     * @param text The text, may be null.
+     * @return The distinct skills in canonical form, in order of first mention.
+     */
+    public List<String> extractSkills(String text) {
+        List<String> skills = new ArrayList<>();
+        AhoCorasick matcher = snapshot.matcher();
+        if (text != null && !text.isEmpty() && matcher.patternCount() > 0) {
+            scan(matcher, text, new HashSet<>(), skills);
+        }
+        return skills;
+    }
+
+    /**
+     * Appends each whole-word skill mention in the text not yet in {@code present} to {@code found}.
+     */
+    private static void scan(AhoCorasick matcher, String text, Set<String> present, List<String> found) {
+        matcher.search(text, (pattern, start, end) -> {
+            if (isWordBoundary(text, start - 1) && isWordBoundary(text, end)) {
+                String skill = matcher.pattern(pattern);
+                if (present.add(skill)) {
+                    found.add(skill);
+                }
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the automaton from the current skill dictionary when postings were indexed since
+     * the last build. Runs on the scheduler thread, off the ingestion path.
+     */
+    @Scheduled(fixedDelayString = "${jobs.skill-extraction.refresh-interval-ms:10000}")
+    public void refresh() {
+        int indexedPostings = jobSkillIndex.size();
+        if (indexedPostings == snapshot.indexedPostings()) {
+            return;
+        }
+        try {
+            int[] postingCounts = jobSkillIndex.listedCountsBySkill(); // Poster-listed only, never extracted
+            List<Integer> skillIds = new ArrayList<>();
+            for (int id = 0; id < postingCounts.length; id++) {
+                if (postingCounts[id] >= minPostings && isDictionarySkill(skillDictionary.skillOf(id))) {
+                    skillIds.add(id);
+                }
+            }
+            // Most listed first, so max-skills and max-pattern-chars keep the most common skills
+            skillIds.sort((a, b) -> Integer.compare(postingCounts[b], postingCounts[a]));
+
+            List<String> patterns = new ArrayList<>(Math.min(skillIds.size(), maxSkills));
+            long patternChars = 0;
+            for (int id : skillIds) {
+                String skill = skillDictionary.skillOf(id);
+                patternChars += skill.length();
+                if (patterns.size() == maxSkills || patternChars > maxPatternChars) {
+                    break;
+                }
+                patterns.add(skill);
+            }
+            AhoCorasick matcher = new AhoCorasick(patterns);
+            snapshot = new Snapshot(matcher, indexedPostings);
+            System.out.println("Skill extraction dictionary rebuilt with " + patterns.size() + " skills ("
+                    + matcher.stateCount() + " automaton states).");
+        } catch (Exception e) {
+            System.err.println("Error rebuilding skill extraction dictionary: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a canonical skill may enter the automaton: at most {@link #MAX_SKILL_LENGTH} characters,
+     * made of search-token characters (letters, digits, '+', '#') with single ' ', '.', '-' or '/'
+     * separators between them, as in "spring boot", "node.js" or "ci/cd". Anything else (control
+     * characters, symbols, emoji, runs of punctuation) is rejected.
+     *
+     * @param skill A skill in canonical form.
+     * @return true if the skill can be extracted.
+     */
+    static boolean isDictionarySkill(String skill) {
+        if (skill == null || skill.isEmpty() || skill.length() > MAX_SKILL_LENGTH) {
+            return false;
+        }
+        boolean hasLetterOrDigit = false;
+        boolean afterSeparator = true; // Treats the start as a separator, so none may lead
+        for (int i = 0; i < skill.length(); i++) {
+            char c = skill.charAt(i);
+            if (JobSearchIndex.isTokenChar(c)) {
+                hasLetterOrDigit |= Character.isLetterOrDigit(c);
+                afterSeparator = false;
+            } else if ((c == ' ' || c == '.' || c == '-' || c == '/') && !afterSeparator) {
+                afterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return hasLetterOrDigit && !afterSeparator;
+    }
+
+    /**
+     * @return Whether the character before/after a match (at the given index) ends a word, using the
+     * {@link JobSearchIndex} token rule: '+' and '#' are part of words such as "c++" and "f#".
+     */
+    private static boolean isWordBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !JobSearchIndex.isTokenChar(text.charAt(index));
+    }
+
+    private record Snapshot(AhoCorasick matcher, int indexedPostings) {
+    }
+}
@@ -0,0 +1,163 @@
+// src/main/java/com/example/job_platform/service/UserLookupCache.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small time-to-live cache of users by username, used by {@link UserService#findByUsername(String)}.
+ * Entries expire after a short TTL and are evicted explicitly on signup, resume upload and other
+ * user updates. A user read from the database is only cached if no eviction for that username
+ * happened since the read started (see {@link #generation(String)}), so a read racing a local write
+ * cannot put the user from before the write back; the TTL bounds staleness caused by writes on
+ * other instances.
+ * Only existing users are cached. Each hit returns a fresh copy, so a caller mutating the user it
+ * received can never leak unsaved changes into the cache.
+ */
+@Component
+public class UserLookupCache {
+
+    // Eviction generations, striped by username hash so memory stays fixed; bumped by every evict
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Map<String, CachedUser> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder requestHits = new LongAdder(); // Served by the per-request deduplication in UserService
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public UserLookupCache(@Value("${users.cache.ttl-seconds:30}") long ttlSeconds,
+                           @Value("${users.cache.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns a copy of the cached user, if present and not expired.
+     *
+     * @param username The username.
+     * @return The cached user, or Optional.empty() on a miss.
+     */
+    public Optional<User> get(String username) {
+        CachedUser cached = entries.get(username);
+        if (cached == null || System.nanoTime() - cached.cachedAtNanos > ttlNanos) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(copyOf(cached.user));
+    }
+
+    /**
+     * @param username The username about to be read from the database.
+     * @return The username's eviction generation; pass it to {@link #put} with the user that was read.
+     */
+    public long generation(String username) {
+        return generations.get(stripe(username));
+    }
+
+    /**
+     * Caches a copy of a user loaded from the database, unless the user was evicted since
+     * {@code generationBeforeRead} was taken.
+     *
+     * @param user The user as read from MongoDB.
+     * @param generationBeforeRead The value of {@link #generation(String)} read before the database read.
+     */
+    public void put(User user, long generationBeforeRead) {
+        if (entries.size() >= maxEntries) {
+            purge();
+        }
+        int stripe = stripe(user.getUsername());
+        // Checked under the entry's lock: an evict either bumped the generation first, or removes this entry after
+        entries.compute(user.getUsername(), (username, existing) ->
+                generations.get(stripe) == generationBeforeRead
+                        ? new CachedUser(copyOf(user), System.nanoTime())
+                        : existing);
+    }
+
+    /**
+     * Evicts a user after it was created or modified. Reads of the user that started before
+     * this call will not be cached.
+     *
+     * @param username The username.
+     */
+    public void evict(String username) {
+        generations.incrementAndGet(stripe(username));
+        if (entries.remove(username) != null) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Records a lookup answered by the per-request deduplication, for the hit ratio.
+     */
+    void recordRequestHit() {
+        requestHits.increment();
+    }
+
+    /**
+     * @return Hit/miss counters, size and the hit ratio (TTL and per-request hits over all lookups).
+     */
+    public Map<String, Object> stats() {
+        long ttlHits = hits.sum();
+        long requestScopedHits = requestHits.sum();
+        long missCount = misses.sum();
+        long lookups = ttlHits + requestScopedHits + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", ttlHits);
+        stats.put("requestHits", requestScopedHits);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) (ttlHits + requestScopedHits) / lookups);
+        return stats;
+    }
+
+    /**
+     * Drops expired entries; if the cache is still full, drops arbitrary entries down to 90%.
+     */
+    private void purge() {
+        long now = System.nanoTime();
+        entries.values().removeIf(cached -> now - cached.cachedAtNanos > ttlNanos);
+        Iterator<String> usernames = entries.keySet().iterator();
+        while (entries.size() >= maxEntries * 9L / 10 && usernames.hasNext()) {
+            usernames.next();
+            usernames.remove();
+        }
+    }
+
+    private static int stripe(String username) {
+        return Math.floorMod(username.hashCode(), GENERATION_STRIPES);
+    }
+
+    // Field-by-field copy; keep in sync with the fields of User
+    private static User copyOf(User user) {
+        User copy = new User(user.getUsername(), user.getPassword(), user.getSection());
+        copy.setId(user.getId());
+        copy.setResumeGridFsId(user.getResumeGridFsId());
+        copy.setResumeSkills(user.getResumeSkills() != null ? new ArrayList<>(user.getResumeSkills()) : null);
+        copy.setResumeSummary(user.getResumeSummary());
+        return copy;
+    }
+
+    private record CachedUser(User user, long cachedAtNanos) {
+    }
+}
@@ -4,8 +4,10 @@ package com.example.job_platform.service;
 import com.example.job_platform.model.User;
 import com.example.job_platform.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.Optional;
 
@@ -17,22 +19,34 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing; // BCrypt off the request threads, bounded
+    private final UserLookupCache userLookupCache; // Short-TTL cache behind findByUsername
+    private final UsernameBloomFilter usernameBloomFilter; // Skips signup's existence check for unseen names
+
+    // Request attribute prefix for deduplicating lookups within one HTTP request
+    private static final String REQUEST_LOOKUP_PREFIX = UserService.class.getName() + ".user.";
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordHashingExecutor passwordHashing,
+                       UserLookupCache userLookupCache, UsernameBloomFilter usernameBloomFilter) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.userLookupCache = userLookupCache;
+        this.usernameBloomFilter = usernameBloomFilter;
     }
 
     /**
      * Registers a new user with a specified section (Post/Apply).
      * Passwords will be encrypted using BCrypt before saving.
+     * The user is created with a single insert; the unique index on username rejects duplicates,
+     * including concurrent signups for the same name. Only usernames the Bloom filter may have
+     * seen are checked beforehand, to avoid hashing a password for a name that is already taken.
      *
      * @param username The username for the new user.
      * @param password The raw password for the new user.
      * @param section  The user's section ("Post" or "Apply").
      * @return The newly created User object if successful, or null if the username already exists.
+     * @throws PasswordHashingBusyException if the password hashing pool is saturated.
      */
     public User signup(String username, String password, String section) {
         // Basic validation for section input
@@ -41,14 +55,23 @@ public class UserService {
             return null; // Or throw an IllegalArgumentException
         }
 
-        // Check if a user with the given username already exists
-        if (userRepository.findByUsername(username).isPresent()) {
+        // Cheap early exit for names that are probably taken; never seen names go straight to the insert
+        if (usernameBloomFilter.mightExist(username) && userRepository.existsByUsername(username)) {
             return null; // Username already exists
         }
         // Encrypt the password before saving!
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHashing.encode(password);
         User newUser = new User(username, encodedPassword, section); // Save encoded password and section
-        return userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.insert(newUser);
+        } catch (DuplicateKeyException e) {
+            usernameBloomFilter.add(username); // Created elsewhere since we seeded
+            return null; // Username already exists
+        }
+        usernameBloomFilter.add(username);
+        evictFromCache(username);
+        return savedUser;
     }
 
     /**
@@ -58,13 +81,14 @@ public class UserService {
      * @param username The username to authenticate.
      * @param rawPassword The raw password provided by the user.
      * @return The authenticated User object if credentials are valid, or empty Optional otherwise.
+     * @throws PasswordHashingBusyException if the password hashing pool is saturated.
      */
     public Optional<User> login(String username, String rawPassword) {
         // Find the user by username
         Optional<User> userOptional = userRepository.findByUsername(username);
 
         // Check if user exists and if the provided raw password matches the stored encoded password
-        if (userOptional.isPresent() && passwordEncoder.matches(rawPassword, userOptional.get().getPassword())) {
+        if (userOptional.isPresent() && passwordHashing.matches(rawPassword, userOptional.get().getPassword())) {
             return userOptional; // Authentication successful
         }
         return Optional.empty(); // Authentication failed
@@ -72,11 +96,50 @@ public class UserService {
 
     /**
      * Finds a user by their username.
+     * Repeated lookups within the same HTTP request return the same User instance without a
+     * database round trip; across requests, users are served from a short-TTL cache.
+     * Call {@link #evictFromCache(String)} after modifying a user.
+     *
      * @param username The username to search for.
      * @return An Optional containing the found User, or empty if not found.
      */
+    @SuppressWarnings("unchecked")
     public Optional<User> findByUsername(String username) {
-        return userRepository.findByUsername(username);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String requestKey = REQUEST_LOOKUP_PREFIX + username;
+        if (requestAttributes != null) {
+            Object lookedUp = requestAttributes.getAttribute(requestKey, RequestAttributes.SCOPE_REQUEST);
+            if (lookedUp != null) {
+                userLookupCache.recordRequestHit();
+                return (Optional<User>) lookedUp;
+            }
+        }
+
+        Optional<User> userOptional = userLookupCache.get(username);
+        if (userOptional.isEmpty()) {
+            long generation = userLookupCache.generation(username); // Before the read, so a racing write wins
+            userOptional = userRepository.findByUsername(username);
+            userOptional.ifPresent(user -> userLookupCache.put(user, generation));
+        }
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(requestKey, userOptional, RequestAttributes.SCOPE_REQUEST);
+        }
+        return userOptional;
+    }
+
+    /**
+     * Evicts a user from the lookup caches (TTL cache and the current request) after it was
+     * created or modified, so the next lookup reads it from the database.
+     *
+     * @param username The username of the modified user.
+     */
+    public void evictFromCache(String username) {
+        userLookupCache.evict(username);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_LOOKUP_PREFIX + username, RequestAttributes.SCOPE_REQUEST);
+        }
     }
 
     /**
@@ -0,0 +1,111 @@
+// src/main/java/com/example/job_platform/service/UsernameBloomFilter.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.model.User;
+import com.example.job_platform.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of taken usernames, seeded from the users collection once the
+ * application is ready and updated on every signup. Signup uses it to skip the existence query
+ * for names the filter has never seen and goes straight to the insert, whose unique index still
+ * rejects names taken elsewhere.
+ * The filter only sees signups made through this instance (like the job skill index), so a
+ * negative is never used to answer a login or a user lookup: users created on another instance
+ * or written to the database directly would be treated as unknown.
+ * Until seeding has finished every username is reported as possibly taken, so nothing is skipped.
+ */
+@Component
+public class UsernameBloomFilter {
+
+    private final MongoTemplate mongoTemplate;
+    private final BloomFilter filter;
+    private final long expectedUsers;
+    private volatile boolean seeded;
+
+    private final LongAdder skippedLookups = new LongAdder(); // Answered "absent" without a query
+    private final LongAdder possibleMatches = new LongAdder(); // Had to be checked in the database
+
+    @Autowired
+    public UsernameBloomFilter(MongoTemplate mongoTemplate,
+                               @Value("${users.bloom-filter.expected-users:1000000}") long expectedUsers,
+                               @Value("${users.bloom-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.mongoTemplate = mongoTemplate;
+        this.expectedUsers = expectedUsers;
+        this.filter = new BloomFilter(expectedUsers, falsePositiveProbability);
+    }
+
+    /**
+     * Adds every existing username to the filter. Signups racing with the seeding are added
+     * directly, so nothing is lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        Query query = new Query();
+        query.fields().include("username");
+        long count = 0;
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                if (user.getUsername() != null) {
+                    filter.put(user.getUsername());
+                    count++;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Username Bloom filter seeding failed; usernames will always be checked in the database: " + e.getMessage());
+            return;
+        }
+        seeded = true;
+        System.out.println("Username Bloom filter seeded with " + count + " usernames.");
+        if (count > expectedUsers) {
+            System.err.println("Username Bloom filter holds more usernames than users.bloom-filter.expected-users ("
+                    + expectedUsers + "); its false-positive rate will be higher than configured.");
+        }
+    }
+
+    /**
+     * @param username The username.
+     * @return false if the username certainly does not exist, true if it may exist.
+     */
+    public boolean mightExist(String username) {
+        if (!seeded || filter.mightContain(username)) {
+            possibleMatches.increment();
+            return true;
+        }
+        skippedLookups.increment();
+        return false;
+    }
+
+    /**
+     * Records a newly created username.
+     *
+     * @param username The username.
+     */
+    public void add(String username) {
+        filter.put(username);
+    }
+
+    /**
+     * @return Seeding state, filter dimensions and how many lookups were skipped.
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("seeded", seeded);
+        stats.put("bits", filter.bitCount());
+        stats.put("hashFunctions", filter.hashCount());
+        stats.put("skippedLookups", skippedLookups.sum());
+        stats.put("possibleMatches", possibleMatches.sum());
+        return stats;
+    }
+}
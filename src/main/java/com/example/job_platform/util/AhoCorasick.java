@@ -0,0 +1,253 @@
+// src/main/java/com/example/job_platform/util/AhoCorasick.java
+package com.example.job_platform.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho-Corasick multi-pattern matcher: finds every occurrence of any of the patterns in a single
+ * left-to-right pass over the text, in time linear in the text length plus the number of matches.
+ * The automaton is compiled into a dense transition table over the characters that occur in the
+ * patterns, so each text character costs one table lookup and no failure-link walking.
+ * The table has at most {@code maxAlphabet} columns whatever the patterns contain: ASCII characters
+ * get their own column first, then the most frequent others, and the rest share one "other" column.
+ * Matches of patterns containing a shared-column character are checked against the text before
+ * they are reported, so folding never produces a false match.
+ * Matching is case-insensitive for lowercase patterns. Immutable and thread-safe once built.
+ */
+public final class AhoCorasick {
+
+    /**
+     * Receives the matches of {@link #search(CharSequence, MatchHandler)}.
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+        /**
+         * @param pattern The index of the matched pattern.
+         * @param start The index of the first matched character in the text.
+         * @param end The index just past the last matched character.
+         */
+        void onMatch(int pattern, int start, int end);
+    }
+
+    /**
+     * Default bound on the transition table's columns, including the columns for characters in no
+     * pattern and for folded characters; enough for every ASCII letter, digit and skill symbol.
+     */
+    public static final int DEFAULT_MAX_ALPHABET = 64;
+
+    private static final int NO_PATTERN_CLASS = 0;
+    private static final int FOLDED_CLASS = 1; // Shared by characters beyond maxAlphabet
+
+    private final String[] patterns;
+    private final boolean[] folded; // pattern -> contains a folded character, so a match must be verified
+    private final byte[] classesByChar; // char -> alphabet class; 0 for characters in no pattern
+    private final int alphabetSize;
+    private final int[] transitions; // state * alphabetSize + class -> next state
+    private final int[][] outputs; // state -> patterns ending here, including via suffix links; null if none
+
+    /**
+     * Builds the automaton with at most {@link #DEFAULT_MAX_ALPHABET} table columns.
+     *
+     * @param patterns The patterns, lowercase. Empty patterns never match; duplicates match once each.
+     */
+    public AhoCorasick(List<String> patterns) {
+        this(patterns, DEFAULT_MAX_ALPHABET);
+    }
+
+    /**
+     * Builds the automaton.
+     *
+     * @param patterns The patterns, lowercase. Empty patterns never match; duplicates match once each.
+     * @param maxAlphabet The maximum number of table columns (3 to 128), which bounds the table to
+     *                    {@code maxAlphabet} ints per pattern character.
+     */
+    public AhoCorasick(List<String> patterns, int maxAlphabet) {
+        if (maxAlphabet < 3 || maxAlphabet > Byte.MAX_VALUE + 1) {
+            throw new IllegalArgumentException("maxAlphabet must be between 3 and 128");
+        }
+        this.patterns = patterns.toArray(new String[0]);
+
+        // Alphabet: only characters that occur in some pattern get a column in the table
+        int[] frequencies = new int[Character.MAX_VALUE + 1];
+        int distinct = 0;
+        int maxStates = 1;
+        for (String pattern : this.patterns) {
+            maxStates += pattern.length();
+            for (int i = 0; i < pattern.length(); i++) {
+                if (frequencies[pattern.charAt(i)]++ == 0) {
+                    distinct++;
+                }
+            }
+        }
+        classesByChar = new byte[Character.MAX_VALUE + 1];
+        int classes = FOLDED_CLASS + 1; // The folded column is reserved even if nothing ends up in it
+        if (distinct <= maxAlphabet - classes) {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                if (frequencies[c] > 0) {
+                    classesByChar[c] = (byte) classes++;
+                }
+            }
+        } else {
+            Integer[] byPriority = new Integer[distinct];
+            int n = 0;
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                if (frequencies[c] > 0) {
+                    byPriority[n++] = c;
+                }
+            }
+            // ASCII first, then the most frequent; everything past the last column shares FOLDED_CLASS
+            Arrays.sort(byPriority, (a, b) -> (a < 128) != (b < 128)
+                    ? (a < 128 ? -1 : 1)
+                    : Integer.compare(frequencies[b], frequencies[a]));
+            for (int c : byPriority) {
+                classesByChar[c] = (byte) (classes < maxAlphabet ? classes++ : FOLDED_CLASS);
+            }
+        }
+        alphabetSize = classes;
+
+        folded = new boolean[this.patterns.length];
+        for (int p = 0; p < this.patterns.length; p++) {
+            String pattern = this.patterns[p];
+            for (int i = 0; i < pattern.length() && !folded[p]; i++) {
+                folded[p] = classesByChar[pattern.charAt(i)] == FOLDED_CLASS;
+            }
+        }
+
+        // Trie; 0 doubles as "no edge" since no edge ever leads back to the root
+        int[] table = new int[Math.multiplyExact(maxStates, alphabetSize)];
+        int[][] terminals = new int[maxStates][];
+        int stateCount = 1;
+        for (int p = 0; p < this.patterns.length; p++) {
+            String pattern = this.patterns[p];
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int edge = state * alphabetSize + classesByChar[pattern.charAt(i)];
+                if (table[edge] == 0) {
+                    table[edge] = stateCount++;
+                }
+                state = table[edge];
+            }
+            terminals[state] = append(terminals[state], p);
+        }
+
+        // Breadth-first: resolve failure links and turn missing edges into DFA transitions
+        int[] failure = new int[stateCount];
+        int[][] stateOutputs = new int[stateCount][];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = NO_PATTERN_CLASS + 1; c < alphabetSize; c++) {
+            int child = table[c];
+            if (child != 0) {
+                stateOutputs[child] = terminals[child];
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int row = state * alphabetSize;
+            int failureRow = failure[state] * alphabetSize;
+            for (int c = NO_PATTERN_CLASS + 1; c < alphabetSize; c++) {
+                int child = table[row + c];
+                if (child != 0) {
+                    int childFailure = table[failureRow + c];
+                    failure[child] = childFailure;
+                    stateOutputs[child] = concat(terminals[child], stateOutputs[childFailure]);
+                    queue.add(child);
+                } else {
+                    table[row + c] = table[failureRow + c];
+                }
+            }
+        }
+
+        transitions = Arrays.copyOf(table, stateCount * alphabetSize);
+        outputs = stateOutputs;
+    }
+
+    /**
+     * Reports every occurrence of every pattern in the text, in order of their end position.
+     * Text characters are lowercased before matching.
+     *
+     * @param text The text to scan.
+     * @param handler Called once per occurrence.
+     */
+    public void search(CharSequence text, MatchHandler handler) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            state = transitions[state * alphabetSize + classesByChar[c]];
+            int[] matched = outputs[state];
+            if (matched != null) {
+                for (int pattern : matched) {
+                    int start = i + 1 - patterns[pattern].length();
+                    if (!folded[pattern] || regionMatches(text, start, patterns[pattern])) {
+                        handler.onMatch(pattern, start, i + 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param index A pattern index as passed to a {@link MatchHandler}.
+     * @return The pattern.
+     */
+    public String pattern(int index) {
+        return patterns[index];
+    }
+
+    /**
+     * @return The number of patterns.
+     */
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    /**
+     * @return The number of automaton states (a measure of the table's memory use).
+     */
+    public int stateCount() {
+        return outputs.length;
+    }
+
+    /**
+     * @return The number of table columns; the table holds {@code stateCount() * alphabetSize()} ints.
+     */
+    public int alphabetSize() {
+        return alphabetSize;
+    }
+
+    // Exact check of a candidate match whose pattern has characters sharing the folded column
+    private static boolean regionMatches(CharSequence text, int start, String pattern) {
+        for (int k = 0; k < pattern.length(); k++) {
+            if (Character.toLowerCase(text.charAt(start + k)) != pattern.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] append(int[] values, int value) {
+        if (values == null) {
+            return new int[]{value};
+        }
+        int[] grown = Arrays.copyOf(values, values.length + 1);
+        grown[values.length] = value;
+        return grown;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (first == null) {
+            return second; // Shared: output arrays are never modified after construction
+        }
+        if (second == null) {
+            return first;
+        }
+        int[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+}
@@ -0,0 +1,96 @@
+// src/main/java/com/example/job_platform/util/BloomFilter.java
+package com.example.job_platform.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings: {@link #mightContain(String)} never returns false for a
+ * value that was {@link #put(String) put}, and returns true for an absent value with roughly the
+ * configured false-positive probability (as long as no more than the expected number of values
+ * are added). Bits live in an {@link AtomicLongArray}, so puts and lookups need no locking.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions The number of values the filter is sized for.
+     * @param falsePositiveProbability The target false-positive probability at that size (e.g. 0.01).
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value The value.
+     */
+    public void put(String value) {
+        long hash1 = fnv1a(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit; // Shift distance is taken mod 64
+            long word;
+            do {
+                word = words.get(wordIndex);
+            } while ((word & mask) == 0 && !words.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+
+    /**
+     * @param value The value.
+     * @return false if the value was definitely never added, true if it may have been.
+     */
+    public boolean mightContain(String value) {
+        long hash1 = fnv1a(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The size of the bit array.
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * @return The number of bit positions set per value.
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // 64-bit FNV-1a over the UTF-16 code units
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer; forced odd so the probe sequence never degenerates to a single bit
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return (hash ^ (hash >>> 31)) | 1L;
+    }
+}
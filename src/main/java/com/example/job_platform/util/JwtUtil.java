@@ -2,15 +2,27 @@
 package com.example.job_platform.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -31,14 +43,44 @@ public class JwtUtil {
     // Token expiration time (e.g., 10 hours in milliseconds)
     public static final long JWT_TOKEN_VALIDITY = 10 * 60 * 60 * 1000; // 10 hours
 
+    // Built once: the parser is immutable and thread-safe, so there is no need for a new one per call
+    private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(SECRET_KEY).build();
+
+    // Verified claims keyed by a SHA-256 digest of the token, each valid until the token's expiration
+    private final Map<String, CachedClaims> verifiedClaims = new ConcurrentHashMap<>();
+    private final int maxCachedTokens;
+
+    // Signature verification time (cache misses only) and claims cache hits/misses
+    private final Timer parseTimer;
+    private final Counter claimsCacheHits;
+    private final Counter claimsCacheMisses;
+
+    public JwtUtil(@Value("${jwt.claims-cache.max-entries:10000}") int maxCachedTokens, MeterRegistry meterRegistry) {
+        this.maxCachedTokens = maxCachedTokens;
+        this.parseTimer = Timer.builder("jwt.parse")
+                .description("Time to parse and verify a JWT")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.claimsCacheHits = Counter.builder("jwt.claims.cache").tag("result", "hit").register(meterRegistry);
+        this.claimsCacheMisses = Counter.builder("jwt.claims.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    // Custom claims read by JwtAuthenticationFilter, so requests can be authorized without loading the user
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String SECTION_CLAIM = "section";
+
     /**
-     * Generates a JWT token for a given subject (username).
+     * Generates a JWT token for a given subject (username), carrying the user's ID and section.
      *
      * @param username The username for whom the token is generated.
+     * @param userId The user's ID.
+     * @param section The user's section ("Post" or "Apply").
      * @return The generated JWT string.
      */
-    public String generateToken(String username) {
-        Map<String, Object> claims = new HashMap<>(); // You can add more claims like roles here
+    public String generateToken(String username, String userId, String section) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(SECTION_CLAIM, section);
         return createToken(claims, username);
     }
 
@@ -60,14 +102,42 @@ public class JwtUtil {
     }
 
     /**
-     * Extracts all claims from a JWT token.
-     * Useful for debugging or if you wanted to read claims (not strictly needed for this request).
+     * Extracts all claims from a JWT token, verifying its signature and expiration.
+     * A token is verified once: its claims are then cached (keyed by a digest of the token) until
+     * the token expires, so the extract* helpers below share a single verification per token
+     * (jwt.claims-cache.max-entries=0 disables the cache).
+     * The returned Claims may be shared between callers and must not be modified.
      *
      * @param token The JWT token string.
      * @return The Claims object containing all claims.
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired.
      */
     public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(SECRET_KEY).build().parseClaimsJws(token).getBody();
+        String key = digest(token);
+        CachedClaims cached = verifiedClaims.get(key);
+        if (cached != null) {
+            if (System.currentTimeMillis() < cached.expiresAtMillis()) {
+                claimsCacheHits.increment();
+                return cached.claims();
+            }
+            verifiedClaims.remove(key); // Expired: fall through so the parser reports it
+        }
+        claimsCacheMisses.increment();
+
+        long parseStartNanos = System.nanoTime();
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } finally {
+            parseTimer.record(System.nanoTime() - parseStartNanos, TimeUnit.NANOSECONDS);
+        }
+        if (maxCachedTokens > 0 && claims.getExpiration() != null) {
+            if (verifiedClaims.size() >= maxCachedTokens) {
+                purgeVerifiedClaims();
+            }
+            verifiedClaims.put(key, new CachedClaims(claims, claims.getExpiration().getTime()));
+        }
+        return claims;
     }
 
     /**
@@ -112,4 +182,29 @@ public class JwtUtil {
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
+
+    /**
+     * Drops expired entries; if the cache is still full, drops arbitrary entries down to half.
+     */
+    private void purgeVerifiedClaims() {
+        long now = System.currentTimeMillis();
+        verifiedClaims.values().removeIf(cached -> now >= cached.expiresAtMillis());
+        Iterator<String> keys = verifiedClaims.keySet().iterator();
+        while (verifiedClaims.size() > maxCachedTokens / 2 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Required on every JVM
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAtMillis) {
+    }
 }
@@ -0,0 +1,123 @@
+// src/main/java/com/example/job_platform/util/TopKHeap.java
+package com.example.job_platform.util;
+
+import java.util.Arrays;
+
+/**
+ * Bounded min-heap over primitive (id, score) pairs that keeps the K best entries seen.
+ * Used for top-K selection so that rankings never sort or box the full candidate list.
+ * Higher scores win; equal scores are broken in favour of the larger id.
+ * Not thread-safe: create one per ranking.
+ */
+public final class TopKHeap {
+
+    private final int capacity;
+    private int[] ids;
+    private double[] scores;
+    private int size;
+
+    /**
+     * @param capacity The maximum number of entries to keep (K). Must be positive.
+     */
+    public TopKHeap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        int initial = Math.min(capacity, 16);
+        this.ids = new int[initial];
+        this.scores = new double[initial];
+    }
+
+    /**
+     * Offers an entry, keeping it only if it ranks among the best K seen so far.
+     *
+     * @param id The entry id (e.g. an index slot).
+     * @param score The entry score.
+     */
+    public void offer(int id, double score) {
+        if (size < capacity) {
+            if (size == ids.length) {
+                int grown = (int) Math.min((long) ids.length * 2, capacity);
+                ids = Arrays.copyOf(ids, grown);
+                scores = Arrays.copyOf(scores, grown);
+            }
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (score > scores[0] || (score == scores[0] && id > ids[0])) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * Sorts the kept entries best-first in place. After this call, {@link #id(int)} and
+     * {@link #score(int)} return entries in ranking order and the heap must not be offered to again.
+     *
+     * @return The number of kept entries.
+     */
+    public int sortDescending() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end); // Move the current weakest entry to the back
+            siftDown(0, end);
+        }
+        return size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int id(int position) {
+        return ids[position];
+    }
+
+    public double score(int position) {
+        return scores[position];
+    }
+
+    private boolean weaker(int i, int j) {
+        return scores[i] < scores[j] || (scores[i] == scores[j] && ids[i] < ids[j]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!weaker(i, parent)) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int end) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= end) {
+                break;
+            }
+            int weakest = left;
+            int right = left + 1;
+            if (right < end && weaker(right, left)) {
+                weakest = right;
+            }
+            if (!weaker(weakest, i)) {
+                break;
+            }
+            swap(i, weakest);
+            i = weakest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
@@ -3,12 +3,14 @@ package com.example.job_platform;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 /**
  * Basic Spring Boot test class to ensure the application context loads successfully.
  * This acts as a sanity check for bean definitions and configurations.
  */
 @SpringBootTest // This annotation tells Spring Boot to load the full application context
+@ActiveProfiles("inmemory") // In-process Mongo: creating the declared indexes at startup needs a reachable server
 class JobPlatformApplicationTests {
 
 	/**
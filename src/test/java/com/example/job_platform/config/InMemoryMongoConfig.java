@@ -0,0 +1,51 @@
+// src/test/java/com/example/job_platform/config/InMemoryMongoConfig.java
+package com.example.job_platform.config;
+
+import com.mongodb.ConnectionString;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.net.InetSocketAddress;
+
+/**
+ * In-memory storage backend for load testing and local runs without network access
+ * (activate with --spring.profiles.active=inmemory).
+ * Starts an in-process, in-memory MongoDB-compatible server on a random loopback port and points
+ * every Mongo client at it, so the users, job postings, GridFS resumes and all other collections
+ * live in memory and vanish on shutdown. The repositories, MongoTemplate queries, bulk writes and
+ * GridFS code paths run unchanged, which keeps load-test results comparable with production.
+ */
+@Configuration
+@Profile("inmemory")
+public class InMemoryMongoConfig {
+
+    private static final String DATABASE = "job_platform";
+
+    /**
+     * Starts the in-memory server; it is shut down with the application context.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public MongoServer inMemoryMongoServer() {
+        return new MongoServer(new MemoryBackend());
+    }
+
+    /**
+     * Replaces the connection settings from spring.data.mongodb.* for both the blocking and the
+     * reactive Mongo clients.
+     *
+     * @param inMemoryMongoServer The server to bind and connect to.
+     * @return Connection details for the server's loopback address.
+     */
+    @Bean
+    public MongoConnectionDetails inMemoryMongoConnectionDetails(MongoServer inMemoryMongoServer) {
+        InetSocketAddress address = inMemoryMongoServer.bind();
+        ConnectionString connectionString = new ConnectionString(
+                "mongodb://" + address.getHostString() + ":" + address.getPort() + "/" + DATABASE);
+        System.out.println("In-memory MongoDB backend listening on " + address.getHostString() + ":" + address.getPort());
+        return () -> connectionString;
+    }
+}
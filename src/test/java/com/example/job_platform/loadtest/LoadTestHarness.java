@@ -0,0 +1,349 @@
+// src/test/java/com/example/job_platform/loadtest/LoadTestHarness.java
+package com.example.job_platform.loadtest;
+
+import com.example.job_platform.JobPlatformAuthApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * End-to-end load test: drives signup, login, job posting, resume upload and recommendations
+ * concurrently at fixed rates and reports throughput and p50/p99/p999 latency per operation.
+ *
+ * Not a JUnit test; run it explicitly on a quiet machine:
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.job_platform.loadtest.LoadTestHarness \
+ *     -Dloadtest.duration-seconds=60 -Dloadtest.recommendations.rate=200
+ * </pre>
+ * Without -Dloadtest.base-url the application is started in this JVM with the "inmemory" profile
+ * (no network or Atlas needed); with it, an already running instance is tested instead.
+ *
+ * The load is open-loop: requests are issued on a fixed schedule whether or not earlier ones have
+ * completed, and latency is measured from the scheduled start time. A stalled server therefore
+ * shows up as high percentiles instead of silently lowering the request rate.
+ *
+ * Settings (system properties, defaults in brackets): loadtest.base-url, loadtest.duration-seconds [30],
+ * loadtest.warmup-seconds [10], loadtest.concurrency [64], loadtest.users [50], loadtest.seed-jobs [1000],
+ * and the per-operation rates in requests per second, loadtest.&lt;operation&gt;.rate, for the
+ * operations signup [5], login [20], post-job [10], upload-resume [5] and recommendations [50].
+ * A rate of 0 disables the operation.
+ */
+public class LoadTestHarness {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final String[] LOCATIONS = {"Remote", "Berlin", "London", "New York", "Bangalore", "Toronto"};
+    private static final String[] EXPERIENCE = {"Entry", "Mid", "Senior", "Lead"};
+    private static final int SKILL_VOCABULARY = 500;
+
+    // Smallest well-formed PDF; the upload path only checks the content type and stores the bytes
+    private static final byte[] RESUME_PDF = ("%PDF-1.4\n1 0 obj<</Type/Catalog/Pages 2 0 R>>endobj\n"
+            + "2 0 obj<</Type/Pages/Kids[]/Count 0>>endobj\ntrailer<</Root 1 0 R>>\n%%EOF\n")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong signupSequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    // Seeded accounts: username and bearer token, by section
+    private final List<String[]> posters = new ArrayList<>();
+    private final List<String[]> applicants = new ArrayList<>();
+
+    private LoadTestHarness(String baseUrl, ExecutorService httpExecutor) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        int users = Integer.getInteger("loadtest.users", 50);
+        int seedJobs = Integer.getInteger("loadtest.seed-jobs", 1000);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = System.getProperty("loadtest.base-url");
+        if (baseUrl == null || baseUrl.isEmpty()) {
+            context = SpringApplication.run(JobPlatformAuthApplication.class,
+                    "--spring.profiles.active=inmemory", "--server.port=0");
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(concurrency);
+        try {
+            LoadTestHarness harness = new LoadTestHarness(baseUrl, httpExecutor);
+            System.out.println("Load testing " + baseUrl + ": seeding " + users + " users per section and "
+                    + seedJobs + " job postings...");
+            harness.seed(users, seedJobs);
+
+            List<Operation> operations = harness.operations();
+            harness.run(operations, warmupSeconds, durationSeconds);
+            report(operations, durationSeconds);
+        } finally {
+            httpExecutor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+        // The reactive Mongo driver's Netty event loop is non-daemon and outlives the closed context
+        System.exit(0);
+    }
+
+    // --- Setup ---
+
+    private void seed(int users, int seedJobs) throws Exception {
+        for (int i = 0; i < users; i++) {
+            posters.add(signupAndLogin("lt-" + runId + "-poster-" + i, "Post"));
+            applicants.add(signupAndLogin("lt-" + runId + "-applicant-" + i, "Apply"));
+        }
+        for (int i = 0; i < seedJobs; i++) {
+            expectSuccess(send(postJobRequest()), "seed job posting");
+        }
+        for (String[] applicant : applicants) {
+            expectSuccess(send(uploadResumeRequest(applicant)), "seed resume upload");
+        }
+    }
+
+    private String[] signupAndLogin(String username, String section) throws Exception {
+        expectSuccess(send(signupRequest(username, section)), "signup of " + username);
+        HttpResponse<String> login = send(loginRequest(username));
+        expectSuccess(login, "login of " + username);
+        Map<?, ?> body = objectMapper.readValue(login.body(), Map.class);
+        return new String[]{username, (String) body.get("token")};
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void expectSuccess(HttpResponse<String> response, String what) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding failed at " + what + ": HTTP " + response.statusCode()
+                    + " " + response.body());
+        }
+    }
+
+    // --- Requests ---
+
+    private List<Operation> operations() {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation("signup", () -> signupRequest(
+                "lt-" + runId + "-signup-" + signupSequence.incrementAndGet(), "Apply")));
+        operations.add(new Operation("login", () -> loginRequest(pick(applicants)[0])));
+        operations.add(new Operation("post-job", this::postJobRequest));
+        operations.add(new Operation("upload-resume", () -> uploadResumeRequest(pick(applicants))));
+        operations.add(new Operation("recommendations", () -> {
+            String[] applicant = pick(applicants);
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/resumes/recommendations/" + applicant[0] + "?limit=20"))
+                    .header("Authorization", "Bearer " + applicant[1])
+                    .GET()
+                    .build();
+        }));
+        operations.removeIf(operation -> operation.rate <= 0);
+        return operations;
+    }
+
+    private HttpRequest signupRequest(String username, String section) {
+        return jsonPost("/api/auth/signup", null, Map.of("username", username, "password", PASSWORD, "section", section));
+    }
+
+    private HttpRequest loginRequest(String username) {
+        return jsonPost("/api/auth/login", null, Map.of("username", username, "password", PASSWORD));
+    }
+
+    private HttpRequest postJobRequest() {
+        Random random = ThreadLocalRandom.current();
+        long id = random.nextLong() & Long.MAX_VALUE;
+        Map<String, Object> job = Map.of(
+                "title", "Load test job " + id,
+                "description", "Synthetic posting " + id + " created by the load-test harness.",
+                "skills", randomSkills(random, 3 + random.nextInt(8)),
+                "experience", EXPERIENCE[random.nextInt(EXPERIENCE.length)],
+                "location", LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        return jsonPost("/api/jobs", pick(posters)[1], job);
+    }
+
+    private HttpRequest uploadResumeRequest(String[] applicant) {
+        Random random = ThreadLocalRandom.current();
+        String boundary = "----load-test-" + Long.toHexString(random.nextLong());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writePart(body, boundary, "extractedSkills", null, String.join(",", randomSkills(random, 5 + random.nextInt(10)))
+                .getBytes(StandardCharsets.UTF_8));
+        writePart(body, boundary, "resumeSummary", null, "Load test resume".getBytes(StandardCharsets.UTF_8));
+        writePart(body, boundary, "file", "resume.pdf", RESUME_PDF);
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/resumes/upload"))
+                .header("Authorization", "Bearer " + applicant[1])
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String name, String fileName, byte[] content) {
+        StringBuilder headers = new StringBuilder("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append('"');
+        if (fileName != null) {
+            headers.append("; filename=\"").append(fileName).append("\"\r\nContent-Type: application/pdf");
+        }
+        headers.append("\r\n\r\n");
+        body.writeBytes(headers.toString().getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private HttpRequest jsonPost(String path, String token, Map<String, ?> payload) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return builder.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload))).build();
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot serialize request body", e);
+        }
+    }
+
+    private static List<String> randomSkills(Random random, int count) {
+        List<String> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double skew = random.nextDouble(); // Popular skills are drawn far more often, like real postings
+            skills.add("skill-" + (int) (skew * skew * skew * SKILL_VOCABULARY));
+        }
+        return skills;
+    }
+
+    private static String[] pick(List<String[]> accounts) {
+        return accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+    }
+
+    // --- Load generation ---
+
+    private void run(List<Operation> operations, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(operations.size());
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        System.out.println("Warming up for " + warmupSeconds + "s, then measuring for " + durationSeconds + "s...");
+        for (Operation operation : operations) {
+            long intervalNanos = Math.max(1, (long) (1_000_000_000L / operation.rate));
+            AtomicLong tick = new AtomicLong();
+            scheduler.scheduleAtFixedRate(() -> {
+                // The intended start follows the schedule, not the (possibly late) moment this task runs
+                long intendedStart = startNanos + tick.getAndIncrement() * intervalNanos;
+                if (intendedStart >= endNanos) {
+                    return;
+                }
+                boolean measured = intendedStart >= measureFromNanos;
+                HttpRequest request = operation.requests.get();
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            if (measured) {
+                                operation.record(System.nanoTime() - intendedStart,
+                                        error == null && response.statusCode() / 100 == 2);
+                            }
+                        });
+            }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(endNanos - System.nanoTime());
+        scheduler.shutdownNow();
+        TimeUnit.SECONDS.sleep(5); // Let in-flight requests complete (or time out of the percentiles)
+    }
+
+    private static void report(List<Operation> operations, int durationSeconds) {
+        System.out.println();
+        System.out.printf("%-16s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Operation operation : operations) {
+            long[] latencies = operation.latencies();
+            Arrays.sort(latencies);
+            System.out.printf("%-16s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    operation.name, latencies.length, operation.errors(), latencies.length / (double) durationSeconds,
+                    percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                    percentileMillis(latencies, 0.999), percentileMillis(latencies, 1.0));
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    /**
+     * One operation of the mix, with its target rate and the latencies recorded after warmup.
+     */
+    private static final class Operation {
+
+        final String name;
+        final double rate;
+        final Supplier<HttpRequest> requests;
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        Operation(String name, Supplier<HttpRequest> requests) {
+            this.name = name;
+            this.rate = Double.parseDouble(System.getProperty("loadtest." + name + ".rate", defaultRate(name)));
+            this.requests = requests;
+        }
+
+        private static String defaultRate(String name) {
+            return switch (name) {
+                case "signup", "upload-resume" -> "5";
+                case "login" -> "20";
+                case "post-job" -> "10";
+                default -> "50";
+            };
+        }
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// src/test/java/com/example/job_platform/service/ApplicantSkillIndexTest.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.ApplicantMatch;
+import com.example.job_platform.model.JobPosting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the applicant index's handling of resume skills no posting has registered: they
+ * must not grow the skill dictionary, yet match once a posting registers them. Uses the indexes
+ * without Spring or Mongo.
+ */
+class ApplicantSkillIndexTest {
+
+    private final SkillDictionary skillDictionary = new SkillDictionary();
+    private final JobSkillIndex jobSkillIndex = new JobSkillIndex(skillDictionary, new SimpleMeterRegistry());
+    private final ApplicantSkillIndex index = new ApplicantSkillIndex(null, skillDictionary, jobSkillIndex);
+
+    @Test
+    void uploadsDoNotRegisterSkills() {
+        index.put("alice", "resume-1", List.of("java", "elixir", "$$$ junk $$$"));
+
+        assertEquals(0, skillDictionary.size());
+        assertEquals(2, index.stats().get("pendingSkills")); // Java and elixir wait; the junk is dropped
+    }
+
+    @Test
+    void waitingSkillMatchesOnceAPostingRegistersIt() {
+        index.put("alice", "resume-1", List.of("elixir", "java"));
+        index.put("bob", "resume-2", List.of("elixir"));
+        jobSkillIndex.add(job("1", List.of("elixir", "java")));
+
+        List<ApplicantMatch> matches = index.topApplicants(List.of("elixir", "java"), 0, 10, ScoringMode.OVERLAP);
+
+        assertEquals(List.of("alice", "bob"), usernames(matches));
+        assertEquals(List.of(1.0, 0.5), matches.stream().map(ApplicantMatch::getMatchScore).toList());
+        assertEquals(0, index.stats().get("pendingSkills"));
+    }
+
+    @Test
+    void replacedProfileDropsItsWaitingSkills() {
+        index.put("alice", "resume-1", List.of("elixir"));
+        index.put("alice", "resume-2", List.of("haskell"));
+        jobSkillIndex.add(job("1", List.of("elixir")));
+
+        assertTrue(index.topApplicants(List.of("elixir"), 0, 10, ScoringMode.OVERLAP).isEmpty());
+        assertEquals(1, index.stats().get("pendingSkills")); // Only haskell
+    }
+
+    @Test
+    void waitingSkillsPerApplicantAreCapped() {
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < ApplicantSkillIndex.MAX_PENDING_SKILLS + 20; i++) {
+            skills.add("skill" + i);
+        }
+        index.put("alice", "resume-1", skills);
+
+        assertEquals(ApplicantSkillIndex.MAX_PENDING_SKILLS, index.stats().get("pendingSkills"));
+    }
+
+    private static JobPosting job(String id, List<String> skills) {
+        JobPosting job = new JobPosting("Engineer", "", skills, "0-2 years", "Remote", "u1", "poster");
+        job.setId(id);
+        return job;
+    }
+
+    private static List<String> usernames(List<ApplicantMatch> matches) {
+        return matches.stream().map(ApplicantMatch::getUsername).toList();
+    }
+}
@@ -0,0 +1,161 @@
+// src/test/java/com/example/job_platform/service/JobSearchIndexTest.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobSearchResult;
+import com.example.job_platform.model.JobPosting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the full-text index: tokenization, phrase matching, replaced postings, compaction
+ * and the galloping posting-list search. The indexes are used without Spring or Mongo.
+ */
+class JobSearchIndexTest {
+
+    private final SkillDictionary skillDictionary = new SkillDictionary();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobSkillIndex jobSkillIndex = new JobSkillIndex(skillDictionary, meterRegistry);
+    private final JobSearchIndex index = new JobSearchIndex(jobSkillIndex, skillDictionary, meterRegistry);
+
+    @Test
+    void tokenizeKeepsPlusAndHashInsideWords() {
+        assertEquals(List.of("c++", "c#", "and", "net", "f#"), JobSearchIndex.tokenize("C++, C# and .NET (F#)"));
+    }
+
+    @Test
+    void tokenizeSkipsStrayPlusAndHashRuns() {
+        assertEquals(List.of("a", "b"), JobSearchIndex.tokenize("a + # ++ b"));
+        assertEquals(List.of(), JobSearchIndex.tokenize(null));
+    }
+
+    @Test
+    void searchTellsCPlusPlusAndCSharpFromC() {
+        add(job("1", "C++ engineer", "Embedded work"));
+        add(job("2", "C# engineer", "Desktop work"));
+        add(job("3", "C engineer", "Kernel work"));
+
+        assertEquals(List.of("1"), ids(index.search("c++", null, null, 0, 10)));
+        assertEquals(List.of("2"), ids(index.search("C#", null, null, 0, 10)));
+        assertEquals(List.of("3"), ids(index.search("c", null, null, 0, 10)));
+    }
+
+    @Test
+    void phraseMatchesWithinOneField() {
+        add(job("1", "Backend developer", "Build services with Spring Boot"));
+
+        assertEquals(List.of("1"), ids(index.search("\"spring boot\"", null, null, 0, 10)));
+        assertEquals(List.of("1"), ids(index.search("\"backend developer\"", null, null, 0, 10)));
+        assertTrue(index.search("\"boot spring\"", null, null, 0, 10).isEmpty());
+    }
+
+    @Test
+    void phraseDoesNotSpanTitleAndDescription() {
+        // Title ends with "java", description starts with "developer"
+        add(job("1", "Senior Java", "Developer wanted for payments"));
+
+        assertTrue(index.search("\"java developer\"", null, null, 0, 10).isEmpty());
+        assertEquals(List.of("1"), ids(index.search("java developer", null, null, 0, 10)));
+    }
+
+    @Test
+    void replacedPostingIsOnlyFoundByItsNewText() {
+        add(job("1", "Kotlin developer", "Android apps"));
+        add(job("1", "Scala developer", "Data pipelines"));
+
+        assertTrue(index.search("kotlin", null, null, 0, 10).isEmpty());
+        assertEquals(List.of("1"), ids(index.search("scala", null, null, 0, 10)));
+        assertEquals(List.of("1"), ids(index.search("developer", null, null, 0, 10)));
+        assertEquals(1, index.size());
+        assertEquals(1, index.stats().get("replacedSlots"));
+    }
+
+    @Test
+    void scoreStaysPositiveWhenAPostingIsReindexedRepeatedly() {
+        for (int version = 0; version < 6; version++) {
+            add(job("1", "Kotlin developer", "Version " + version)); // Each add leaves a replaced slot behind
+        }
+        add(job("2", "Kotlin lead", "Team of five"));
+
+        List<JobSearchResult> results = index.search("kotlin", null, null, 0, 10);
+        assertEquals(2, results.size());
+        for (JobSearchResult result : results) {
+            assertTrue(result.getScore() > 0, "score " + result.getScore());
+        }
+    }
+
+    @Test
+    void replacedSlotsAreCompactedOnceTheyOutnumberLiveOnes() {
+        add(job("2", "Kotlin lead", "Team of five"));
+        int versions = JobSearchIndex.COMPACTION_MIN_REPLACED + 10;
+        for (int version = 0; version < versions; version++) {
+            add(job("1", "Kotlin developer", "Version " + version));
+        }
+        add(job("3", "Scala developer", "Data pipelines"));
+
+        assertTrue((int) index.stats().get("replacedSlots") < JobSearchIndex.COMPACTION_MIN_REPLACED);
+        assertEquals(List.of("1", "2"), ids(index.search("kotlin", null, null, 0, 10)).stream().sorted().toList());
+        assertEquals(List.of("1"), ids(index.search("\"version " + (versions - 1) + "\"", null, null, 0, 10)));
+        assertTrue(index.search("\"version 0\"", null, null, 0, 10).isEmpty());
+        assertEquals(List.of("3"), ids(index.search("scala", "Remote", null, 0, 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void conjunctionStopsWhenALongerListIsExhausted() {
+        add(job("1", "Alpha", "one"));
+        add(job("2", "Alpha", "two"));
+        add(job("3", "Alpha", "three"));
+        add(job("4", "Zeta", "four")); // The rarest term's only slot lies past every "alpha" slot
+
+        assertTrue(index.search("alpha zeta", null, null, 0, 10).isEmpty());
+
+        add(job("5", "Alpha zeta", "five")); // Now both lists end on the same slot
+        assertEquals(List.of("5"), ids(index.search("alpha zeta", null, null, 0, 10)));
+    }
+
+    @Test
+    void advanceHandlesBothEndsOfAList() {
+        int[] slots = {2, 4, 6, 8, 10, 0, 0}; // Only the first five entries are used
+
+        assertEquals(0, JobSearchIndex.advance(slots, 5, 0, 1)); // Before the first slot
+        assertEquals(0, JobSearchIndex.advance(slots, 5, 0, 2)); // Exactly the first slot
+        assertEquals(2, JobSearchIndex.advance(slots, 5, 0, 5)); // Between two slots
+        assertEquals(4, JobSearchIndex.advance(slots, 5, 0, 10)); // Exactly the last slot
+        assertEquals(5, JobSearchIndex.advance(slots, 5, 0, 11)); // Past the last slot, unused entries ignored
+        assertEquals(5, JobSearchIndex.advance(slots, 5, 5, 3)); // Already at the end
+        assertEquals(3, JobSearchIndex.advance(slots, 5, 3, 4)); // Never moves backwards
+    }
+
+    @Test
+    void advanceGallopsOverLongLists() {
+        int[] slots = new int[1000];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i * 2;
+        }
+        for (int target = 0; target <= 2000; target += 7) {
+            int expected = (target + 1) / 2; // First even slot not below the target
+            assertEquals(expected, JobSearchIndex.advance(slots, slots.length, 0, target), "target " + target);
+        }
+    }
+
+    /** Indexes the posting the way JobPostingService does: search hits are resolved from the skill index. */
+    private void add(JobPosting job) {
+        jobSkillIndex.add(job);
+        index.add(job);
+    }
+
+    private static JobPosting job(String id, String title, String description) {
+        JobPosting job = new JobPosting(title, description, List.of(), "0-2 years", "Remote", "u1", "poster");
+        job.setId(id);
+        return job;
+    }
+
+    private static List<String> ids(List<JobSearchResult> results) {
+        return results.stream().map(result -> result.getJobPosting().getId()).toList();
+    }
+}
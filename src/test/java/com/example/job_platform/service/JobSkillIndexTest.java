@@ -0,0 +1,120 @@
+// src/test/java/com/example/job_platform/service/JobSkillIndexTest.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the skill index's scoring: the incrementally maintained IDF weights against a
+ * naive count over the indexed postings, and {@link JobSkillIndex#scorer} against the scores
+ * {@link JobSkillIndex#topMatches} gives. The index is used without Spring or Mongo.
+ */
+class JobSkillIndexTest {
+
+    private static final List<String> SKILLS = List.of("java", "go", "kafka", "sql", "docker", "aws", "react");
+
+    private final SkillDictionary skillDictionary = new SkillDictionary();
+    private final JobSkillIndex index = new JobSkillIndex(skillDictionary, new SimpleMeterRegistry());
+
+    // Posting ID -> skills as last indexed, for the naive document frequencies
+    private final Map<String, List<String>> indexed = new HashMap<>();
+
+    @Test
+    void idfWeightsFollowAdds() {
+        add("1", List.of("java", "go"));
+        add("2", List.of("java"));
+        add("3", List.of("java", "kafka"));
+
+        assertWeightsMatchNaiveIdf();
+    }
+
+    @Test
+    void idfWeightsFollowReplacements() {
+        add("1", List.of("java", "go"));
+        add("2", List.of("java", "kafka"));
+        add("2", List.of("go", "sql")); // Java and kafka lose a posting, go and sql gain one
+        add("1", List.of("sql"));
+
+        assertWeightsMatchNaiveIdf();
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void idfWeightsMatchAfterRandomAddsAndReplacements() {
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            add(String.valueOf(random.nextInt(40)), randomSkills(random)); // IDs repeat, so postings get replaced
+        }
+
+        assertWeightsMatchNaiveIdf();
+    }
+
+    @Test
+    void scorerAgreesWithTopMatchesInBothModes() {
+        Random random = new Random(11);
+        for (int i = 0; i < 60; i++) {
+            add(String.valueOf(random.nextInt(30)), randomSkills(random));
+        }
+
+        for (int applicant = 0; applicant < 20; applicant++) {
+            int[] applicantSkillIds = skillDictionary.toSortedIds(randomSkills(random), false);
+            for (ScoringMode mode : ScoringMode.values()) {
+                for (JobRecommendation recommendation : index.topMatches(applicantSkillIds, 0, 100, mode)) {
+                    int[] jobSkillIds = skillDictionary.toSortedIds(recommendation.getJobPosting().getSkills(), false);
+                    assertEquals(recommendation.getMatchScore(), index.scorer(jobSkillIds, mode).score(applicantSkillIds),
+                            mode + " score of posting " + recommendation.getJobPosting().getId());
+                }
+            }
+        }
+    }
+
+    @Test
+    void idfScoreWeightsRareSkillsHigher() {
+        add("1", List.of("java", "kafka"));
+        add("2", List.of("java"));
+        add("3", List.of("java"));
+        int[] kafkaOnly = skillDictionary.toSortedIds(List.of("kafka"), false);
+
+        // Posting 1: weight(kafka) / (weight(java) + weight(kafka)), computed naively
+        double expected = Math.round(naiveIdf("kafka") / (naiveIdf("java") + naiveIdf("kafka")) * 100.0) / 100.0;
+        assertEquals(expected, index.topMatches(kafkaOnly, 0, 10, ScoringMode.IDF).get(0).getMatchScore());
+        assertTrue(expected > 0.5, "kafka is rarer than java");
+        assertEquals(0.5, index.topMatches(kafkaOnly, 0, 10, ScoringMode.OVERLAP).get(0).getMatchScore());
+    }
+
+    private void assertWeightsMatchNaiveIdf() {
+        for (String skill : SKILLS) {
+            int skillId = skillDictionary.lookup(skill);
+            if (skillId >= 0) {
+                assertEquals(naiveIdf(skill), index.idfWeight(skillId), 1e-9, skill);
+            }
+        }
+    }
+
+    /** ln((N + 1) / (df + 1)) + 1, counted from the postings as last indexed. */
+    private double naiveIdf(String skill) {
+        long df = indexed.values().stream().filter(skills -> skills.contains(skill)).count();
+        return Math.log((indexed.size() + 1.0) / (df + 1.0)) + 1.0;
+    }
+
+    private void add(String id, List<String> skills) {
+        JobPosting job = new JobPosting("Engineer", "", skills, "0-2 years", "Remote", "u1", "poster");
+        job.setId(id);
+        index.add(job);
+        indexed.put(id, skills);
+    }
+
+    private static List<String> randomSkills(Random random) {
+        return SKILLS.stream().filter(skill -> random.nextInt(3) == 0).toList();
+    }
+}
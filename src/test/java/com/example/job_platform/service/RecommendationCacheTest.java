@@ -0,0 +1,67 @@
+// src/test/java/com/example/job_platform/service/RecommendationCacheTest.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for patching cached rankings with new postings: OVERLAP rankings take the posting in,
+ * IDF rankings (whose weights every posting changes) are dropped. Uses the index without Spring or Mongo.
+ */
+class RecommendationCacheTest {
+
+    private final SkillDictionary skillDictionary = new SkillDictionary();
+    private final JobSkillIndex jobSkillIndex = new JobSkillIndex(skillDictionary, new SimpleMeterRegistry());
+    private final RecommendationCache cache = new RecommendationCache(skillDictionary, jobSkillIndex, 100, 200);
+
+    @Test
+    void overlapRankingIsPatchedWithANewPosting() {
+        cacheRanking(ScoringMode.OVERLAP);
+
+        cache.onJobPosted(post("java-only", List.of("java")));
+
+        // The full match ranks above the half match, as a fresh ranking would have it
+        assertEquals(List.of("java-only", "java-go"),
+                ids(cache.get("alice", ScoringMode.OVERLAP, 0, 10).orElseThrow()));
+    }
+
+    @Test
+    void idfRankingIsDroppedWhenAPostingChangesTheWeights() {
+        cacheRanking(ScoringMode.IDF);
+
+        cache.onJobPosted(post("java-only", List.of("java")));
+
+        assertTrue(cache.get("alice", ScoringMode.IDF, 0, 10).isEmpty());
+    }
+
+    private void cacheRanking(ScoringMode mode) {
+        jobSkillIndex.add(job("java-go", List.of("java", "go")));
+        long version = cache.currentVersion();
+        int[] applicantSkillIds = skillDictionary.toSortedIds(List.of("java"), false);
+        cache.put("alice", mode, List.of("java"), jobSkillIndex.topMatches(applicantSkillIds, 0, 10, mode), 10, version);
+    }
+
+    /** Indexes the posting, then patches the cache, as JobPostingService does. */
+    private JobPosting post(String id, List<String> skills) {
+        JobPosting job = job(id, skills);
+        jobSkillIndex.add(job);
+        return job;
+    }
+
+    private static JobPosting job(String id, List<String> skills) {
+        JobPosting job = new JobPosting("Engineer", "", skills, "0-2 years", "Remote", "u1", "poster");
+        job.setId(id);
+        return job;
+    }
+
+    private static List<String> ids(List<JobRecommendation> recommendations) {
+        return recommendations.stream().map(recommendation -> recommendation.getJobPosting().getId()).toList();
+    }
+}
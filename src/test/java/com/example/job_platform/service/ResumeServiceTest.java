@@ -0,0 +1,76 @@
+// src/test/java/com/example/job_platform/service/ResumeServiceTest.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.dto.JobRecommendation;
+import com.example.job_platform.model.JobPosting;
+import com.example.job_platform.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for recommendation caching in ResumeService: a ranking of skills that a resume upload
+ * replaced while the ranking was computed must not be cached. Uses the indexes without Spring or Mongo.
+ */
+class ResumeServiceTest {
+
+    private final SkillDictionary skillDictionary = new SkillDictionary();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobSkillIndex jobSkillIndex = new JobSkillIndex(skillDictionary, meterRegistry);
+    private final RecommendationCache recommendationCache =
+            new RecommendationCache(skillDictionary, jobSkillIndex, 100, 200);
+    private final UserService userService = mock(UserService.class);
+    private final ResumeService resumeService = new ResumeService(null, null, null, userService, jobSkillIndex,
+            skillDictionary, recommendationCache, null, null, meterRegistry, ScoringMode.OVERLAP);
+
+    @Test
+    void rankingIsNotCachedWhenAnUploadRacesTheProfileRead() {
+        jobSkillIndex.add(job("java-job", List.of("java")));
+        jobSkillIndex.add(job("go-job", List.of("go")));
+        // The request reads the old profile, then the upload replaces the skills and invalidates
+        when(userService.findByUsername("alice")).thenAnswer(invocation -> {
+            User before = applicant(List.of("java"));
+            recommendationCache.invalidate("alice");
+            return Optional.of(before);
+        });
+
+        assertEquals(List.of("java-job"), ids(resumeService.getRecommendedJobsForApplicant("alice", 10, 0,
+                ScoringMode.OVERLAP)));
+        assertTrue(recommendationCache.get("alice", ScoringMode.OVERLAP, 0, 10).isEmpty());
+    }
+
+    @Test
+    void rankingIsCachedWithoutARacingUpload() {
+        jobSkillIndex.add(job("java-job", List.of("java")));
+        when(userService.findByUsername("alice")).thenReturn(Optional.of(applicant(List.of("java"))));
+
+        resumeService.getRecommendedJobsForApplicant("alice", 10, 0, ScoringMode.OVERLAP);
+
+        assertEquals(List.of("java-job"),
+                ids(recommendationCache.get("alice", ScoringMode.OVERLAP, 0, 10).orElseThrow()));
+    }
+
+    private static User applicant(List<String> skills) {
+        User user = new User("alice", "hash", "Apply");
+        user.setResumeGridFsId("resume-1");
+        user.setResumeSkills(skills);
+        return user;
+    }
+
+    private static JobPosting job(String id, List<String> skills) {
+        JobPosting job = new JobPosting("Engineer", "", skills, "0-2 years", "Remote", "u1", "poster");
+        job.setId(id);
+        return job;
+    }
+
+    private static List<String> ids(List<JobRecommendation> recommendations) {
+        return recommendations.stream().map(recommendation -> recommendation.getJobPosting().getId()).toList();
+    }
+}
@@ -0,0 +1,86 @@
+// src/test/java/com/example/job_platform/service/SkillExtractorTest.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.model.JobPosting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for skill extraction: whole-word matching with the search tokenizer's word rule,
+ * and a dictionary built from poster-listed skills only. Uses the indexes without Spring or Mongo.
+ */
+class SkillExtractorTest {
+
+    private final SkillDictionary skillDictionary = new SkillDictionary();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobSkillIndex jobSkillIndex = new JobSkillIndex(skillDictionary, meterRegistry);
+    private final SkillExtractor skillExtractor =
+            new SkillExtractor(jobSkillIndex, skillDictionary, meterRegistry, true, 2, 100, 10_000);
+
+    @Test
+    void plusAndHashArePartOfTheWord() {
+        listTwice("c", "c++", "java");
+        skillExtractor.refresh();
+
+        assertEquals(List.of("c++", "c"), skillExtractor.extractSkills("C#, C++ and plain C."));
+        assertEquals(List.of("java"), skillExtractor.extractSkills("Java (not JavaScript) or java8? Java!"));
+    }
+
+    @Test
+    void mergeKeepsPosterSkillsAndAppendsNewOnes() {
+        listTwice("java", "kafka");
+        skillExtractor.refresh();
+
+        assertEquals(List.of("Java", "kafka"),
+                skillExtractor.mergeExtractedSkills(List.of("Java"), "Java services on Kafka and JAVA"));
+    }
+
+    @Test
+    void extractedSkillsDoNotCountTowardsTheDictionary() {
+        listTwice("java");
+        // "kafka" is on two postings, but only because it was extracted from their descriptions
+        for (int i = 0; i < 2; i++) {
+            JobPosting job = job("extracted-" + i, List.of("java", "kafka"));
+            job.setExtractedSkills(List.of("kafka"));
+            jobSkillIndex.add(job);
+        }
+        skillExtractor.refresh();
+
+        assertEquals(List.of("java"), skillExtractor.extractSkills("Java and Kafka"));
+    }
+
+    @Test
+    void skillsBelowMinPostingsAreNotExtracted() {
+        listTwice("java");
+        jobSkillIndex.add(job("typo", List.of("jaava")));
+        skillExtractor.refresh();
+
+        assertEquals(List.of("java"), skillExtractor.extractSkills("java or jaava"));
+    }
+
+    @Test
+    void implausibleSkillNamesStayOutOfTheDictionary() {
+        listTwice("spring boot", "node.js", "ci/cd", "\u2603\u2603", "a--b", "x".repeat(SkillExtractor.MAX_SKILL_LENGTH + 1));
+        skillExtractor.refresh();
+
+        assertEquals(List.of("spring boot", "node.js", "ci/cd"),
+                skillExtractor.extractSkills("Spring Boot, Node.js, CI/CD, \u2603\u2603 and a--b"));
+    }
+
+    private void listTwice(String... skills) {
+        for (String skill : skills) {
+            jobSkillIndex.add(job(skill + "-1", List.of(skill)));
+            jobSkillIndex.add(job(skill + "-2", List.of(skill)));
+        }
+    }
+
+    private static JobPosting job(String id, List<String> skills) {
+        JobPosting job = new JobPosting("Engineer", "", skills, "0-2 years", "Remote", "u1", "poster");
+        job.setId(id);
+        return job;
+    }
+}
@@ -0,0 +1,43 @@
+// src/test/java/com/example/job_platform/service/UserLookupCacheTest.java
+package com.example.job_platform.service;
+
+import com.example.job_platform.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the user lookup cache: a read that raced an eviction must not be cached.
+ */
+class UserLookupCacheTest {
+
+    private final UserLookupCache cache = new UserLookupCache(30, 100);
+
+    @Test
+    void readStartedBeforeAnEvictionIsNotCached() {
+        long generation = cache.generation("alice");
+        User beforeUpload = applicant(List.of("java")); // Read from the database before the upload's write
+        cache.evict("alice");
+        cache.put(beforeUpload, generation);
+
+        assertTrue(cache.get("alice").isEmpty());
+    }
+
+    @Test
+    void readAfterTheEvictionIsCached() {
+        cache.evict("alice");
+        long generation = cache.generation("alice");
+        cache.put(applicant(List.of("go")), generation);
+
+        assertEquals(List.of("go"), cache.get("alice").orElseThrow().getResumeSkills());
+    }
+
+    private static User applicant(List<String> skills) {
+        User user = new User("alice", "hash", "Apply");
+        user.setResumeSkills(skills);
+        return user;
+    }
+}
@@ -0,0 +1,128 @@
+// src/test/java/com/example/job_platform/util/AhoCorasickTest.java
+package com.example.job_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the multi-pattern matcher: overlapping matches, patterns that are suffixes of
+ * other patterns (reported via suffix links), the bounded alphabet, and agreement with a naive scan.
+ */
+class AhoCorasickTest {
+
+    @Test
+    void reportsOverlappingMatchesInEndOrder() {
+        AhoCorasick matcher = new AhoCorasick(List.of("he", "she", "his", "hers"));
+
+        List<String> matches = matches(matcher, "ushers");
+        // "she" and "he" both end at 4; their relative order is not specified
+        assertEquals(3, matches.size());
+        assertEquals(List.of("he@2-4", "she@1-4"), matches.subList(0, 2).stream().sorted().toList());
+        assertEquals("hers@2-6", matches.get(2));
+    }
+
+    @Test
+    void reportsPatternsThatAreSuffixesOfLongerOnes() {
+        AhoCorasick matcher = new AhoCorasick(List.of("javascript", "script", "java", "pt"));
+
+        List<String> matches = matches(matcher, "javascript");
+        assertEquals("java@0-4", matches.get(0));
+        assertEquals(List.of("javascript@0-10", "pt@8-10", "script@4-10"),
+                matches.subList(1, matches.size()).stream().sorted().toList());
+    }
+
+    @Test
+    void reportsSuffixPatternsAfterAFailedLongerMatch() {
+        AhoCorasick matcher = new AhoCorasick(List.of("spring boot", "boot"));
+
+        // The partial "spring boo" fails on the space and falls back to the root, then "boot" follows
+        assertEquals(List.of("boot@11-15"), matches(matcher, "spring boo boot"));
+        // Not word-aware: whole-word checks belong to the caller
+        assertEquals(List.of("boot@7-11", "spring boot@0-11"), matches(matcher, "spring boots").stream().sorted().toList());
+    }
+
+    @Test
+    void matchesSymbolPatternsAndIgnoresCase() {
+        AhoCorasick matcher = new AhoCorasick(List.of("c", "c++", "c#"));
+
+        assertEquals(List.of("c@0-1", "c@4-5", "c++@4-7", "c@12-13", "c#@12-14"),
+                matches(matcher, "C / C++ and C#"));
+    }
+
+    @Test
+    void duplicatePatternsMatchOnceEachAndEmptyPatternsNever() {
+        AhoCorasick matcher = new AhoCorasick(List.of("go", "", "go"));
+
+        List<Integer> patterns = new ArrayList<>();
+        matcher.search("go", (pattern, start, end) -> patterns.add(pattern));
+        assertEquals(List.of(0, 2), patterns.stream().sorted().toList());
+        assertEquals(List.of(), matches(new AhoCorasick(List.of("")), "anything"));
+    }
+
+    @Test
+    void agreesWithANaiveScan() {
+        agreesWithANaiveScan(3, AhoCorasick.DEFAULT_MAX_ALPHABET);
+    }
+
+    @Test
+    void agreesWithANaiveScanWhenCharactersShareTheFoldedColumn() {
+        agreesWithANaiveScan(6, 4); // Two own columns, four characters folded together
+    }
+
+    @Test
+    void alphabetStaysBoundedWhateverThePatternsContain() {
+        List<String> patterns = new ArrayList<>();
+        for (char c = '\u4e00'; c < '\u4e00' + 5000; c++) {
+            patterns.add("x" + c);
+        }
+        patterns.add("java");
+        AhoCorasick matcher = new AhoCorasick(patterns);
+
+        assertEquals(AhoCorasick.DEFAULT_MAX_ALPHABET, matcher.alphabetSize());
+        // \u4e01 has its own column, \u4e50 shares the folded one, \u9fff is in no pattern
+        assertEquals(List.of("java@0-4", "x\u4e01@5-7", "x\u4e50@8-10"), matches(matcher, "Java x\u4e01 x\u4e50 x\u9fff"));
+    }
+
+    private static void agreesWithANaiveScan(int textAlphabet, int maxAlphabet) {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> patterns = new ArrayList<>();
+            for (int p = 0; p < 1 + random.nextInt(6); p++) {
+                patterns.add(randomString(random, textAlphabet, 1 + random.nextInt(4)));
+            }
+            String text = randomString(random, textAlphabet, random.nextInt(40));
+            AhoCorasick matcher = new AhoCorasick(patterns, maxAlphabet);
+
+            List<String> expected = new ArrayList<>();
+            for (int end = 1; end <= text.length(); end++) {
+                for (String pattern : patterns) {
+                    int start = end - pattern.length();
+                    if (start >= 0 && text.startsWith(pattern, start)) {
+                        expected.add(pattern + "@" + start + "-" + end);
+                    }
+                }
+            }
+            assertEquals(expected.stream().sorted().toList(), matches(matcher, text).stream().sorted().toList(),
+                    "patterns " + patterns + ", text " + text);
+        }
+    }
+
+    private static List<String> matches(AhoCorasick matcher, String text) {
+        List<String> matches = new ArrayList<>();
+        matcher.search(text, (pattern, start, end) -> matches.add(matcher.pattern(pattern) + "@" + start + "-" + end));
+        return matches;
+    }
+
+    private static String randomString(Random random, int alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(alphabet))); // A small alphabet makes overlaps common
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,85 @@
+// src/test/java/com/example/job_platform/util/TopKHeapTest.java
+package com.example.job_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for top-K selection, in particular the tie-breaking that keeps rankings stable.
+ */
+class TopKHeapTest {
+
+    @Test
+    void keepsTheBestEntriesSortedDescending() {
+        TopKHeap heap = new TopKHeap(3);
+        heap.offer(1, 0.2);
+        heap.offer(2, 0.9);
+        heap.offer(3, 0.5);
+        heap.offer(4, 0.1);
+        heap.offer(5, 0.7);
+
+        assertEquals(3, heap.sortDescending());
+        assertEquals(List.of(2, 5, 3), ids(heap));
+        assertEquals(0.9, heap.score(0));
+        assertEquals(0.5, heap.score(2));
+    }
+
+    @Test
+    void equalScoresRankTheLargerIdFirst() {
+        TopKHeap heap = new TopKHeap(10);
+        heap.offer(3, 0.5);
+        heap.offer(7, 0.5);
+        heap.offer(1, 0.5);
+        heap.offer(5, 0.8);
+
+        heap.sortDescending();
+        assertEquals(List.of(5, 7, 3, 1), ids(heap));
+    }
+
+    @Test
+    void fullHeapEvictsTheSmallerIdOnATie() {
+        TopKHeap heap = new TopKHeap(2);
+        heap.offer(4, 0.5);
+        heap.offer(2, 0.5);
+        heap.offer(3, 0.5); // Beats id 2, loses to id 4
+        heap.offer(1, 0.5); // Beats nothing kept
+
+        heap.sortDescending();
+        assertEquals(List.of(4, 3), ids(heap));
+    }
+
+    @Test
+    void resultDoesNotDependOnOfferOrder() {
+        double[] scores = {0.3, 0.3, 0.6, 0.1, 0.6, 0.3, 0.9, 0.6};
+        TopKHeap forward = new TopKHeap(4);
+        TopKHeap backward = new TopKHeap(4);
+        for (int i = 0; i < scores.length; i++) {
+            forward.offer(i, scores[i]);
+            int j = scores.length - 1 - i;
+            backward.offer(j, scores[j]);
+        }
+
+        forward.sortDescending();
+        backward.sortDescending();
+        assertEquals(List.of(6, 7, 4, 2), ids(forward));
+        assertEquals(ids(forward), ids(backward));
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKHeap(0));
+    }
+
+    private static List<Integer> ids(TopKHeap heap) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < heap.size(); i++) {
+            ids.add(heap.id(i));
+        }
+        return ids;
+    }
+}